@@ -0,0 +1,34 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * benchmarks.BenchmarkRunner - Runs the benchmarks with the GC profiler attached, so every score
+ *                   is reported alongside its allocation rate (gc.alloc.rate.norm). Accepts the
+ *                   usual JMH command line options, e.g. "GenerationBenchmark -p childCount=13"
+ *                   to run one benchmark class with one parameter value, or "-rff results.csv"
+ *                   to keep the results for comparison.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine  = new CommandLineOptions(args);
+        OptionsBuilder options          = new OptionsBuilder();
+
+        // fall back to every benchmark in this module when none are named
+        if (commandLine.getIncludes().isEmpty()){
+            options.include("benchmarks\\..*Benchmark");
+        }
+
+        options.parent(commandLine).addProfiler(GCProfiler.class);
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,228 @@
+package benchmarks;
+
+import elements.Circle;
+import elements.Line;
+import geometry.Culling;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * benchmarks.CullingBenchmark - Measures the visibility tests Circle.isVisible and Line.isVisible
+ *                   that the renderers run on every element before drawing it, over elements
+ *                   scattered in and around the canvas, as well as the cases of geometry.Culling
+ *                   that the scattered elements rarely reach: rings whose hole holds the whole
+ *                   canvas, and diagonal tethers that pass the bounding box test but miss the
+ *                   canvas past a corner. Those cases are checked when they are set up, so a
+ *                   broken test fails the benchmark instead of scoring it. Scores are per
+ *                   element tested.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Djava.awt.headless=true"})
+@State(Scope.Thread)
+public class CullingBenchmark {
+    private static final int ELEMENT_COUNT = 1 << 16;
+    private static final double MIN_X = FractalState.CANVAS_WIDTH / -2.0;
+    private static final double MIN_Y = FractalState.CANVAS_HEIGHT / -2.0;
+    private static final double MAX_X = FractalState.CANVAS_WIDTH / 2.0;
+    private static final double MAX_Y = FractalState.CANVAS_HEIGHT / 2.0;
+
+    /** How far beyond the canvas elements are scattered, as a multiple of the canvas size */
+    @Param({"1.0", "4.0"})
+    public double spread;
+
+    /** Width of the stroke elements are drawn with; wide strokes reach further past their shape */
+    @Param({"1.5", "30.0"})
+    public double strokeWidth;
+
+    private double[] x;
+    private double[] y;
+    private double[] radius;
+    private double[] endX;
+    private double[] endY;
+    /** Rings around the canvas, with a hole wide enough to hold all of it */
+    private double[] ringInner;
+    private double[] ringOuter;
+    /** Diagonal segments that cross past a corner of the canvas without touching it */
+    private double[] missStartX;
+    private double[] missStartY;
+    private double[] missEndX;
+    private double[] missEndY;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        Random rand = new Random(42);
+
+        x       = new double[ELEMENT_COUNT];
+        y       = new double[ELEMENT_COUNT];
+        radius  = new double[ELEMENT_COUNT];
+        endX    = new double[ELEMENT_COUNT];
+        endY    = new double[ELEMENT_COUNT];
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            double angle = rand.nextDouble() * 2 * Math.PI;
+
+            x[i]        = (rand.nextDouble() - .5) * FractalState.CANVAS_WIDTH * spread;
+            y[i]        = (rand.nextDouble() - .5) * FractalState.CANVAS_HEIGHT * spread;
+            // mostly small elements, as in a deep fractal
+            radius[i]   = Math.pow(rand.nextDouble(), 4) * 200;
+            endX[i]     = x[i] + (radius[i] * Math.cos(angle));
+            endY[i]     = y[i] + (radius[i] * Math.sin(angle));
+        }
+
+        setUpRings(rand);
+        setUpNearMisses(rand);
+    }
+
+    /**
+     * Private helper method to set up rings centered in the canvas whose hole holds the whole
+     * canvas, so only the farthest corner test rejects them.
+     *
+     * @param rand      source of the ring sizes
+     */
+    private void setUpRings(Random rand){
+        double halfDiagonal = Math.hypot(MAX_X, MAX_Y);
+
+        ringInner   = new double[ELEMENT_COUNT];
+        ringOuter   = new double[ELEMENT_COUNT];
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            ringInner[i] = halfDiagonal * (1.01 + rand.nextDouble());
+            ringOuter[i] = ringInner[i] + strokeWidth;
+
+            if (Culling.ringIntersectsRect(0, 0, ringInner[i], ringOuter[i], MIN_X, MIN_Y, MAX_X, MAX_Y)){
+                throw new IllegalStateException("Ring " + i + " holds the canvas in its hole but wasn't culled");
+            }
+        }
+    }
+
+    /**
+     * Private helper method to set up segments along a line x + y = c that passes just beyond
+     * a corner of the canvas. Their bounding boxes overlap the canvas, so only clipping rejects
+     * them. Drawn as tethers, those whose stroke reaches the corner must still be seen.
+     *
+     * @param rand      source of the segment positions
+     */
+    private void setUpNearMisses(Random rand){
+        missStartX  = new double[ELEMENT_COUNT];
+        missStartY  = new double[ELEMENT_COUNT];
+        missEndX    = new double[ELEMENT_COUNT];
+        missEndY    = new double[ELEMENT_COUNT];
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            double gap      = .5 + (rand.nextDouble() * 20);
+            double overlap  = 1 + (rand.nextDouble() * 100);
+
+            missStartX[i]   = MAX_X - overlap;
+            missStartY[i]   = MAX_Y + overlap + gap;
+            missEndX[i]     = MAX_X + overlap + gap;
+            missEndY[i]     = MAX_Y - overlap;
+
+            if (Culling.segmentIntersectsRect(missStartX[i], missStartY[i], missEndX[i], missEndY[i],
+                    MIN_X, MIN_Y, MAX_X, MAX_Y)){
+                throw new IllegalStateException("Segment " + i + " misses the canvas but wasn't culled");
+            }
+
+            // the corner is gap / sqrt(2) away from the line, square to it
+            if (strokeWidth / 2 > gap / Math.sqrt(2) && !Line.isVisible(FractalState.CANVAS_WIDTH,
+                    FractalState.CANVAS_HEIGHT, missStartX[i], missStartY[i], missEndX[i], missEndY[i],
+                    Math.hypot(missEndX[i] - missStartX[i], missEndY[i] - missStartY[i]), strokeWidth)){
+                throw new IllegalStateException("Tether " + i + " reaches the canvas with its stroke but was culled");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENT_COUNT)
+    public int circleVisible(){
+        int visible = 0;
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            if (Circle.isVisible(FractalState.CANVAS_WIDTH, FractalState.CANVAS_HEIGHT, x[i], y[i], radius[i],
+                    strokeWidth, false)){
+                visible++;
+            }
+        }
+
+        return visible;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENT_COUNT)
+    public int lineVisible(){
+        int visible = 0;
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            if (Line.isVisible(FractalState.CANVAS_WIDTH, FractalState.CANVAS_HEIGHT, x[i], y[i],
+                    endX[i], endY[i], radius[i], strokeWidth)){
+                visible++;
+            }
+        }
+
+        return visible;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENT_COUNT)
+    public int ringAroundCanvas(){
+        int visible = 0;
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            if (Culling.ringIntersectsRect(0, 0, ringInner[i], ringOuter[i], MIN_X, MIN_Y, MAX_X, MAX_Y)){
+                visible++;
+            }
+        }
+
+        return visible;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENT_COUNT)
+    public int segmentPastCorner(){
+        int visible = 0;
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            if (Culling.segmentIntersectsRect(missStartX[i], missStartY[i], missEndX[i], missEndY[i],
+                    MIN_X, MIN_Y, MAX_X, MAX_Y)){
+                visible++;
+            }
+        }
+
+        return visible;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENT_COUNT)
+    public int tetherPastCorner(){
+        int visible = 0;
+
+        for (int i = 0; i < ELEMENT_COUNT; i++){
+            if (Line.isVisible(FractalState.CANVAS_WIDTH, FractalState.CANVAS_HEIGHT, missStartX[i], missStartY[i],
+                    missEndX[i], missEndY[i], Math.hypot(missEndX[i] - missStartX[i], missEndY[i] - missStartY[i]),
+                    strokeWidth)){
+                visible++;
+            }
+        }
+
+        return visible;
+    }
+}
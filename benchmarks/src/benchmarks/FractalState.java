@@ -0,0 +1,50 @@
+package benchmarks;
+
+import interfaces.FractalSubject;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import rendering.FractalSnapshot;
+
+/**
+ * benchmarks.FractalState - A fractal configured from the benchmark parameters, shared by the
+ *                   benchmarks that generate or draw a whole fractal. Any parameter can be
+ *                   narrowed or widened from the command line with -p, e.g. -p childCount=1,13.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+@State(Scope.Benchmark)
+public class FractalState {
+    /** Size of the canvas the fractal is drawn on, matching the GUI's default canvas */
+    public static final int CANVAS_WIDTH = 1280;
+    public static final int CANVAS_HEIGHT = 800;
+
+    @Param({"1", "5", "13"})
+    public int childCount;
+
+    @Param({"2", "6", "10"})
+    public int recursionDepth;
+
+    @Param({"30", "50"})
+    public double childRatio;
+
+    @Param({"1.0", "4.0"})
+    public double zoomScale;
+
+    public FractalSubject subject;
+    public FractalSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        // FractalGenerator lives in the default package, which can't be imported
+        subject = (FractalSubject) Class.forName("FractalGenerator").getDeclaredConstructor().newInstance();
+        subject.setData(childCount, childRatio, 200, recursionDepth, 1.5, 20, true, false,
+                false, false, false, Color.CORAL, Color.BLACK);
+        subject.setZoomScale(zoomScale);
+        snapshot = new FractalSnapshot(subject);
+    }
+}
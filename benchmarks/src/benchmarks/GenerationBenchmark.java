@@ -0,0 +1,77 @@
+package benchmarks;
+
+import geometry.FractalGeometry;
+import geometry.GeometryGenerator;
+import interfaces.FractalElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * benchmarks.GenerationBenchmark - Measures generating a fractal, both as the FractalElement list
+ *                   returned by FractalGenerator.getData and straight into a geometry buffer,
+ *                   with and without the canvas viewport culling the generation.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Djava.awt.headless=true"})
+@State(Scope.Thread)
+public class GenerationBenchmark {
+    private GeometryGenerator generator;
+    private FractalGeometry geometry;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        // a single thread, so that the numbers don't depend on the machine's core count
+        generator   = new GeometryGenerator(new ForkJoinPool(1));
+        geometry    = new FractalGeometry();
+    }
+
+    @Benchmark
+    public ArrayList<FractalElement> getData(FractalState state){
+        return state.subject.getData();
+    }
+
+    @Benchmark
+    public FractalGeometry generateUnculled(FractalState state){
+        generator.clearViewport();
+        return generate(state);
+    }
+
+    @Benchmark
+    public FractalGeometry generateCulled(FractalState state){
+        generator.setViewport(FractalState.CANVAS_WIDTH, FractalState.CANVAS_HEIGHT,
+                state.snapshot.getStrokeWidth());
+        return generate(state);
+    }
+
+    /**
+     * Private helper method to generate the fractal of the state into the geometry buffer.
+     *
+     * @param state     the fractal to generate
+     * @return          the filled geometry buffer
+     */
+    private FractalGeometry generate(FractalState state){
+        generator.setLayout(state.snapshot.getChildCount(), state.snapshot.getRotationOffset());
+        generator.generate(geometry, state.snapshot.getChildRatio(), state.snapshot.getZoomedInitialRadius(),
+                state.snapshot.getRecursionDepth(), state.snapshot.getOriginX(), state.snapshot.getOriginY());
+        return geometry;
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import geometry.GeometryGenerator;
+import modulators.AnimationClock;
+import modulators.Animator;
+import modulators.Modulator;
+import modulators.VirtualClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rendering.FractalSnapshot;
+import rendering.RegionRenderer;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * benchmarks.RenderBenchmark - Measures rendering a whole frame, from generation to rasterization,
+ *                   into an off-screen image - the same path the GUI's render worker and the
+ *                   headless exporter take, without needing a display. The animated benchmark
+ *                   plays a rotation on a virtual clock, stepped one frame per invocation the
+ *                   way the exporter steps it, so every run renders the same sequence of frames
+ *                   and each one has to be generated from scratch.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Djava.awt.headless=true"})
+@State(Scope.Thread)
+public class RenderBenchmark {
+    /** Radians the animated fractal turns per second */
+    private static final double ROTATION_SPEED = .5;
+
+    private RegionRenderer renderer;
+    private BufferedImage frame;
+    private VirtualClock time;
+    private AnimationClock clock;
+    /** Index of the next animated frame */
+    private long frameIndex;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        System.setProperty("java.awt.headless", "true");
+
+        renderer    = new RegionRenderer(new GeometryGenerator(new ForkJoinPool(1)));
+        frame       = new BufferedImage(FractalState.CANVAS_WIDTH, FractalState.CANVAS_HEIGHT,
+                BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    @Setup(Level.Trial)
+    public void setUpAnimation(FractalState state){
+        time        = new VirtualClock();
+        clock       = new AnimationClock(() -> {}, time);
+        frameIndex  = 0;
+
+        new Animator(clock, seconds -> state.subject.setRotationOffset(seconds * ROTATION_SPEED)).start();
+    }
+
+    @Benchmark
+    public int renderFrame(FractalState state){
+        return renderer.render(state.snapshot, FractalState.CANVAS_WIDTH, FractalState.CANVAS_HEIGHT,
+                0, 0, frame);
+    }
+
+    @Benchmark
+    public int renderAnimatedFrame(FractalState state){
+        time.advanceToFrame(frameIndex++, Modulator.FPS_CAP);
+
+        FractalSnapshot snapshot = clock.step(() -> new FractalSnapshot(state.subject));
+
+        return renderer.render(snapshot, FractalState.CANVAS_WIDTH, FractalState.CANVAS_HEIGHT,
+                0, 0, frame);
+    }
+}
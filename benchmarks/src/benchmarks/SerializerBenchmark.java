@@ -0,0 +1,68 @@
+package benchmarks;
+
+import interfaces.FractalSubject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import serialization.FractalGUISerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * benchmarks.SerializerBenchmark - Measures saving the settings of a fractal with FractalGUISerializer
+ *                   and loading them back, as happens when the GUI closes and opens.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Djava.awt.headless=true"})
+@State(Scope.Thread)
+public class SerializerBenchmark {
+    private FractalSubject subject;
+    private Path settingsFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ReflectiveOperationException {
+        FractalState state = new FractalState();
+
+        state.childCount        = 5;
+        state.recursionDepth    = 6;
+        state.childRatio        = 50;
+        state.zoomScale         = 1.0;
+        state.setUp();
+
+        subject         = state.subject;
+        settingsFile    = Files.createTempFile("glossdrop", ".settings");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(settingsFile);
+    }
+
+    @Benchmark
+    public FractalGUISerializer roundTrip() throws IOException {
+        FractalGUISerializer writer = new FractalGUISerializer(subject, settingsFile.toString());
+
+        writer.update();
+        writer.writeToDisk();
+
+        return new FractalGUISerializer(subject, settingsFile.toString());
+    }
+}
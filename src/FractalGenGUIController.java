@@ -1,6 +1,6 @@
+import geometry.GeometryGenerator;
 import interfaces.FractalObserver;
 import interfaces.FractalSubject;
-import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -14,19 +14,34 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.*;
 import javafx.scene.control.Label;
 import javafx.scene.effect.*;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import modulators.AnimationClock;
 import modulators.Glosscillator;
 import modulators.GlosscillatorUI;
+import modulators.Modulator;
 import modulators.Orbiter;
+import rendering.BakedLoop;
+import rendering.FractalSnapshot;
+import rendering.FrameCache;
+import rendering.FrameStats;
+import rendering.QualityGovernor;
+import rendering.RenderPipeline;
 import serialization.FractalGUISerializer;
 
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 @SuppressWarnings("SpellCheckingInspection")
@@ -48,6 +63,9 @@ public class FractalGenGUIController implements FractalObserver {
     @FXML
     private Spinner<Double> decayOpacitySpinner;
     @FXML
+    /** Level of detail threshold in pixels, below which subtrees become splats */
+    private Spinner<Double> lodThresholdSpinner;
+    @FXML
     private ToggleButton pauseRenderToggleButton;
     @FXML
     private ToggleButton glosscillatorsToggleButton;
@@ -76,10 +94,17 @@ public class FractalGenGUIController implements FractalObserver {
     @FXML
     private Label zoomLabel;
     @FXML
+    /** Shows the quality governor's level, failed frames and cut levels */
+    private Label qualityLabel;
+    @FXML
     private VBox glosscillatorsVBox;
 
     // Controller State fields
+    /** Clock shared by every modulator, rendering once per pulse */
+    private AnimationClock animationClock;
     private boolean pauseRender;
+    /** Whether or not the frame stats overlay is shown */
+    private boolean showStats;
     private Color bgColor;
     private ColorCycler fgColorCycler;
     private ColorCycler bgColorCycler;
@@ -88,14 +113,32 @@ public class FractalGenGUIController implements FractalObserver {
     private GraphicsContext gc;
     private HashMap<String, Spinner<Double>> glosscillatorChoiceBoxOptions;
     private Orbiter orbiter;
+    /** Plays a baked loop in place of the live modulators */
+    private LoopPlayer loopPlayer;
+    /** Modulators stopped while a baked loop plays, to be started again once it stops */
+    private ArrayList<Modulator> pausedModulators;
+    /** Whether or not a loop is being baked or read in the background */
+    private boolean preparingLoop;
     private Point2D dragStartPosition;
+    /** Renders frames off the JavaFX Application Thread and presents them */
+    private RenderPipeline renderPipeline;
     private Scene scene;
     private double rotation;
+    /** Time spent applying settings to the subject since the last frame was requested */
+    private long pendingUpdateNanos;
+    /** Index into TARGET_FRAME_RATES of the frame rate the quality governor aims for */
+    private int targetFrameRateIndex;
 
     // some global settings
     private final boolean DEBUG             = false;
     private final double ZOOM_SENSITIVITY   = .1;
     private final double ROTATION_DELTA     = .005;
+    /** File the frame stats are exported to as CSV */
+    private final String STATS_FILE_NAME    = "glossdrop_stats.csv";
+    /** File baked loops are saved to and read from */
+    private final String LOOP_FILE_NAME     = "glossdrop_loop.gdl";
+    /** Frame rates the quality governor can be set to aim for, cycled through with T */
+    private final int[] TARGET_FRAME_RATES  = {Modulator.FPS_CAP, 30, 20, 15};
 
     /*
         TODO - MASTER LIST
@@ -110,11 +153,17 @@ public class FractalGenGUIController implements FractalObserver {
 
     @FXML
     public void initialize(){
-        bgColorCycler                   = new ColorCycler(bgColorPicker);
-        fgColorCycler                   = new ColorCycler(fgColorPicker);
+        // every modulator changes the GUI on the same pulse, which is then rendered once
+        animationClock                  = new AnimationClock(this::updateSubject);
+        bgColorCycler                   = new ColorCycler(bgColorPicker, animationClock);
+        fgColorCycler                   = new ColorCycler(fgColorPicker, animationClock);
         gc                              = canvas.getGraphicsContext2D();
         glosscillatorChoiceBoxOptions   = new HashMap<>();
+        loopPlayer                      = new LoopPlayer(animationClock);
+        pausedModulators                = new ArrayList<>();
         pauseRender                     = pauseRenderToggleButton.isSelected();
+        renderPipeline                  = new RenderPipeline(() -> Platform.runLater(this::presentFrame),
+                () -> Platform.runLater(this::updateQualityLabel));
 
         initSpinners();
         initChoiceBox();
@@ -136,7 +185,10 @@ public class FractalGenGUIController implements FractalObserver {
     public void passSubject(FractalSubject subject) {
         this.subject    = subject;
         // create the orbiter now that you have the subject
-        orbiter         = new Orbiter(subject);
+        orbiter         = new Orbiter(subject, animationClock);
+
+        // hold notifications back until the end of the pulse, so a burst of changes renders once
+        subject.setNotifier(animationClock::runOnPulse);
 
         initSerializer();
         updateSubject();
@@ -156,9 +208,11 @@ public class FractalGenGUIController implements FractalObserver {
             recursionDepthSpinner.getValueFactory().setValue(serializer.getRecursionDepth());
             strokeWidthSpinner.getValueFactory().setValue(serializer.getStrokeWidth());
             decayOpacitySpinner.getValueFactory().setValue(serializer.getFinalOpacity());
+            lodThresholdSpinner.getValueFactory().setValue(serializer.getLodThreshold());
 
             decayOpacityCheckBox.setSelected(serializer.isOpacityDecay());
             decayOpacitySpinner.setDisable(!serializer.isOpacityDecay());
+            decayColorCheckBox.setSelected(serializer.isColorDecay());
             fillElementsCheckBox.setSelected(serializer.isFillElements());
             electricKoolAidCheckBox.setSelected(serializer.isRandomColors());
             hideTethersCheckBox.setSelected(serializer.isHideTethers());
@@ -169,6 +223,8 @@ public class FractalGenGUIController implements FractalObserver {
             Point2D savedOrigin = serializer.getOrigin();
             subject.setOriginOffset(savedOrigin.getX(), savedOrigin.getY());
             subject.setZoomScale(serializer.getZoomScale());
+            subject.setRotationOffset(serializer.getRotationOffset());
+            subject.setColorSeed(serializer.getColorSeed());
         }
 
         subject.attach(serializer);
@@ -187,6 +243,15 @@ public class FractalGenGUIController implements FractalObserver {
         }
     }
 
+    /**
+     * Stops the background render worker, to be called on application stop.
+     */
+    public void shutdown(){
+        if (renderPipeline != null){
+            renderPipeline.shutdown();
+        }
+    }
+
     private void bindHotkeys(){
         if (scene != null) {
             scene.setOnKeyPressed(keyEvent -> {
@@ -202,10 +267,15 @@ public class FractalGenGUIController implements FractalObserver {
                     toggleElectricKoolAid();
                     updateSubject();
                 }
+                if (keyEvent.getCode() == KeyCode.R) {
+                    // random colors hold still, so pick a fresh set of them
+                    subject.setColorSeed(ThreadLocalRandom.current().nextLong());
+                    updateSubject();
+                }
                 if (keyEvent.getCode() == KeyCode.P) {
                     togglePauseRender();
                     if (!pauseRender) {
-                        updateSubject();
+                        update();
                     }
                 }
                 if (keyEvent.getCode() == KeyCode.PLUS || keyEvent.getCode() == KeyCode.EQUALS) {
@@ -233,6 +303,55 @@ public class FractalGenGUIController implements FractalObserver {
                 }
 
 
+                // frame stats
+                if (keyEvent.getCode() == KeyCode.I){
+                    showStats = !showStats;
+                    update();
+                }
+                if (keyEvent.getCode() == KeyCode.X){
+                    exportStats();
+                }
+                if (keyEvent.getCode() == KeyCode.N){
+                    // switch rasterizers to compare their timings in the stats
+                    renderPipeline.setBackend(renderPipeline.getBackend().next());
+                    update();
+                }
+                if (keyEvent.getCode() == KeyCode.Q){
+                    // show coarse levels right away rather than waiting for the whole frame
+                    renderPipeline.setProgressive(!renderPipeline.isProgressive());
+                    update();
+                }
+                if (keyEvent.getCode() == KeyCode.A){
+                    // trade detail for frame rate while animating
+                    QualityGovernor governor = renderPipeline.getGovernor();
+                    governor.setEnabled(!governor.isEnabled());
+                    update();
+                }
+                if (keyEvent.getCode() == KeyCode.T){
+                    targetFrameRateIndex = (targetFrameRateIndex + 1) % TARGET_FRAME_RATES.length;
+                    renderPipeline.getGovernor().setTargetNanos(
+                            1_000_000_000L / TARGET_FRAME_RATES[targetFrameRateIndex]);
+                    update();
+                }
+
+
+                // baked loops
+                if (keyEvent.getCode() == KeyCode.K){
+                    if (loopPlayer.isRunning()){
+                        stopLoop();
+                    } else {
+                        bakeLoop();
+                    }
+                }
+                if (keyEvent.getCode() == KeyCode.L){
+                    if (loopPlayer.isRunning()){
+                        stopLoop();
+                    } else {
+                        prepareLoop(() -> BakedLoop.read(Paths.get(LOOP_FILE_NAME)));
+                    }
+                }
+
+
                 // Glosscillator Menu
                 if (keyEvent.getCode() == KeyCode.G){
                     toggleGlosscillatorVisibility();
@@ -270,51 +389,51 @@ public class FractalGenGUIController implements FractalObserver {
                 */
                 if (keyEvent.getCode() == KeyCode.BACK_SPACE){
                     gc.setEffect(null);
-                    updateSubject();
+                    update();
                 }
                 if (keyEvent.getCode() == KeyCode.DIGIT1){
                     // slowish, kinda muted by default
                     gc.setEffect(new Bloom(0.1));
-                    updateSubject();
+                    update();
                 }
                 if (keyEvent.getCode() == KeyCode.DIGIT2){
                     // slower blur
                     gc.setEffect(new GaussianBlur());
-                    updateSubject();
+                    update();
                 }
                 if (keyEvent.getCode() == KeyCode.DIGIT3){
                     // this is cool and not too bad on performance
                     gc.setEffect(new BoxBlur());
-                    updateSubject();
+                    update();
                 }
                 if (keyEvent.getCode() == KeyCode.DIGIT4){
                     // this one's also pretty cool but worse on performance than BoxBlur
                     gc.setEffect(new MotionBlur());
-                    updateSubject();
+                    update();
                 }
                 if (keyEvent.getCode() == KeyCode.DIGIT5){
                     // not too cool. Sorta brightens everything.
                     gc.setEffect(new Glow());
-                    updateSubject();
+                    update();
                 }
                 if (keyEvent.getCode() == KeyCode.DIGIT6){
                     // Neat but not super noticeable - like a non-linear opacity decay?
                     gc.setEffect(new Blend());
-                    updateSubject();
+                    update();
                 }
                 if (keyEvent.getCode() == KeyCode.DIGIT7){
                     // this is another neat one - makes it easy to see the order of layering
                     gc.setEffect(new DropShadow());
-                    updateSubject();
+                    update();
                 }
 
                 if (keyEvent.getCode() == KeyCode.RIGHT){
                     subject.setRotationOffset(subject.getRotationOffset() - ROTATION_DELTA);
-                    update();
+                    subject.notifyObservers();
                 }
                 if (keyEvent.getCode() == KeyCode.LEFT){
                     subject.setRotationOffset(subject.getRotationOffset() + ROTATION_DELTA);
-                    update();
+                    subject.notifyObservers();
                 }
 
 
@@ -337,6 +456,8 @@ public class FractalGenGUIController implements FractalObserver {
                 new SpinnerValueFactory.DoubleSpinnerValueFactory(1.0, 30.0, 1.0, .1));
         decayOpacitySpinner.setValueFactory(
                 new SpinnerValueFactory.DoubleSpinnerValueFactory(0,100,20, 1));
+        lodThresholdSpinner.setValueFactory(
+                new SpinnerValueFactory.DoubleSpinnerValueFactory(0, 32, 0, .5));
 
         childCountSpinner.valueProperty().addListener(new SpinnerChangeListener());
         recursionDepthSpinner.valueProperty().addListener(new SpinnerChangeListener());
@@ -344,6 +465,7 @@ public class FractalGenGUIController implements FractalObserver {
         initialRadiusSpinner.valueProperty().addListener(new SpinnerChangeListener());
         strokeWidthSpinner.valueProperty().addListener(new SpinnerChangeListener());
         decayOpacitySpinner.valueProperty().addListener(new SpinnerChangeListener());
+        lodThresholdSpinner.valueProperty().addListener(new SpinnerChangeListener());
 
         // make spinners scrollable
         childCountSpinner.setOnScroll(new SpinnerScrollHandler());
@@ -352,6 +474,7 @@ public class FractalGenGUIController implements FractalObserver {
         initialRadiusSpinner.setOnScroll(new SpinnerScrollHandler());
         strokeWidthSpinner.setOnScroll(new SpinnerScrollHandler());
         decayOpacitySpinner.setOnScroll(new SpinnerScrollHandler());
+        lodThresholdSpinner.setOnScroll(new SpinnerScrollHandler());
     }
 
     private void initChoiceBox(){
@@ -385,7 +508,7 @@ public class FractalGenGUIController implements FractalObserver {
         //todo: this might take a while to redraw if the current fractal is complex.
         //  is there a better way to handle this?
         //  Also, canvas resize isn't rendered if !pauseRender. Maybe force drawBg?
-        updateSubject();
+        update();
     }
 
 
@@ -520,11 +643,21 @@ public class FractalGenGUIController implements FractalObserver {
 
     @FXML
     private void handleValueChange(ActionEvent event){
+        boolean wasPaused = pauseRender;
+
         decayOpacitySpinner.setDisable(!decayOpacityCheckBox.isSelected());
         fgColorPicker.setDisable((electricKoolAidCheckBox.isSelected() || fgColorCycler.isRunning()));
         pauseRender = pauseRenderToggleButton.isSelected();
 
-        updateSubject();
+        // color cyclers are rendered by the animation clock once the pulse is over
+        if (!animationClock.isTicking()){
+            updateSubject();
+        }
+
+        // unpausing changes nothing on the subject, but the canvas needs catching up
+        if (wasPaused && !pauseRender){
+            update();
+        }
     }
 
     @FXML
@@ -533,7 +666,7 @@ public class FractalGenGUIController implements FractalObserver {
         Spinner<Double> propertySpinner = glosscillatorChoiceBoxOptions.get(propertyName);
 
         glosscillatorsVBox.getChildren().add(
-                new GlosscillatorUI(propertySpinner, propertyName, glosscillatorsChoiceBox));
+                new GlosscillatorUI(propertySpinner, animationClock, propertyName, glosscillatorsChoiceBox));
 
         //serializer.setAnimationLock(glosscillatorsVBox.getChildren().contains());
 
@@ -544,7 +677,10 @@ public class FractalGenGUIController implements FractalObserver {
     private class SpinnerChangeListener implements ChangeListener<Object> {
         @Override
         public void changed(ObservableValue observableValue, Object o, Object t1) {
-            updateSubject();
+            // glosscillators are rendered by the animation clock once the pulse is over
+            if (!animationClock.isTicking()){
+                updateSubject();
+            }
         }
     }
 
@@ -566,41 +702,86 @@ public class FractalGenGUIController implements FractalObserver {
         }
     }
 
+    //  ===========
+    //  Loop Player
+    //  ===========
+
+    /**
+     * Plays a baked loop by requesting its frames as they come due, rather than rendering.
+     */
+    private class LoopPlayer extends Modulator {
+        /** The loop being played */
+        private BakedLoop loop;
+        /** Index of the frame last requested, or -1 before the first */
+        private int lastIndex;
+
+        /**
+         * Constructs a new player without starting it.
+         *
+         * @param clock     the clock shared by all modulators
+         */
+        public LoopPlayer(AnimationClock clock){
+            super(clock);
+        }
+
+        /**
+         * Starts playing a loop from its first frame.
+         *
+         * @param loop      the loop to play
+         */
+        public void play(BakedLoop loop){
+            this.loop       = loop;
+            this.lastIndex  = -1;
+            start();
+        }
+
+        @Override
+        protected boolean tick(long now) {
+            int index = loop.frameAt(now - startTime);
+
+            // frames are shown as they are, so the subject has nothing to render
+            if (index != lastIndex){
+                lastIndex = index;
+                renderPipeline.requestLoopFrame(loop, index);
+            }
+
+            return false;
+        }
+    }
+
     //  ============
     //  Color Cycler
     //  ============
 
-    private class ColorCycler extends AnimationTimer{
+    /**
+     * Shifts the hue of a ColorPicker's color a little on every frame.
+     */
+    private class ColorCycler extends Modulator {
         private static final double COLOR_DELTA = .01;
         private final ColorPicker colorPicker;
-        private boolean isRunning;
 
-        public ColorCycler(ColorPicker colorPicker){
+        /**
+         * Constructs a new color cycler without starting it.
+         *
+         * @param colorPicker   the ColorPicker whose color is cycled
+         * @param clock         the clock shared by all modulators
+         */
+        public ColorCycler(ColorPicker colorPicker, AnimationClock clock){
+            super(clock);
             this.colorPicker    = colorPicker;
-            this.isRunning      = false;
         }
 
         @Override
-        public void handle(long l) {
+        protected boolean tick(long now) {
             Color currentColor = colorPicker.getValue();
             colorPicker.setValue(currentColor.deriveColor(COLOR_DELTA, 1,1,1));
-            updateSubject();
+            return true;
         }
 
+        @Override
         public void toggle(){
-            if (isRunning) {
-                colorPicker.setDisable(false);
-                stop();
-            } else {
-                colorPicker.setDisable(true);
-                start();
-            }
-
-            isRunning = !isRunning;
-        }
-
-        public boolean isRunning(){
-            return this.isRunning;
+            super.toggle();
+            colorPicker.setDisable(running);
         }
     }
 
@@ -621,15 +802,24 @@ public class FractalGenGUIController implements FractalObserver {
 
     @Override
     public void update() {
-        updateElementCount();
+        update(FractalSubject.ALL_CHANGED);
+    }
+
+    @Override
+    public void update(int changes) {
+        if ((changes & FractalSubject.SHAPE_CHANGED) != 0){
+            updateElementCount();
+        }
 
-        if (!pauseRender){
+        // a playing loop shows baked frames instead
+        if (!pauseRender && !loopPlayer.isRunning()){
             draw();
         }
     }
 
     private void updateSubject(){
-        bgColor = bgColorPicker.getValue();
+        long start  = System.nanoTime();
+        bgColor     = bgColorPicker.getValue();
 
         subject.setData(
                 childCountSpinner.getValue(),
@@ -646,12 +836,15 @@ public class FractalGenGUIController implements FractalObserver {
                 fgColorPicker.getValue(),
                 bgColor
         );
+        subject.setLodThreshold(lodThresholdSpinner.getValue());
 
         if (DEBUG) {
             logGUIValues();
         }
 
+        // observers hear about every change made during this frame at the end of the pulse
         subject.notifyObservers();
+        pendingUpdateNanos += System.nanoTime() - start;
     }
 
     //  =======================
@@ -659,15 +852,262 @@ public class FractalGenGUIController implements FractalObserver {
     //  =======================
 
     private void draw(){
-        drawBG();
+        long updateNanos    = pendingUpdateNanos;
+        pendingUpdateNanos  = 0;
 
-        subject.renderFractal(gc);
-        updateDrawCount();
+        // the frame is rendered in the background and shows up through presentFrame
+        renderPipeline.requestFrame(new FractalSnapshot(subject),
+                (int) canvas.getWidth(), (int) canvas.getHeight(), updateNanos);
     }
 
-    private void drawBG(){
-        gc.setFill(bgColor);
-        gc.fillRect(0,0,canvas.getWidth(),canvas.getHeight());
+    /**
+     * Blits the latest frame completed by the render pipeline onto the canvas.
+     */
+    private void presentFrame(){
+        WritableImage frame = renderPipeline.presentFrame();
+
+        if (frame != null){
+            gc.drawImage(frame, 0, 0);
+            updateDrawCount();
+            updateQualityLabel();
+
+            if (showStats){
+                drawStatsOverlay();
+            }
+        }
+    }
+
+    /**
+     * Draws the rolling frame stats over the top-left corner of the canvas.
+     */
+    private void drawStatsOverlay(){
+        FrameStats stats            = renderPipeline.getStats();
+        ArrayList<String> lines     = new ArrayList<>();
+
+        lines.add(String.format("backend %s, %s", renderPipeline.getBackend().getLabel(),
+                renderPipeline.isProgressive() ? "progressive" : "whole frames"));
+
+        QualityGovernor governor = renderPipeline.getGovernor();
+
+        lines.add(governor.isEnabled()
+                ? String.format("governed to %.1f ms", governor.getTargetNanos() / 1_000_000.0)
+                : "governor off");
+        lines.add(renderPipeline.getQuality().describe());
+        lines.add(String.format("%-10s %7s %7s %7s", "ms", "p50", "p95", "p99"));
+
+        for (FrameStats.Stage stage : FrameStats.Stage.values()){
+            lines.add(String.format("%-10s %7.2f %7.2f %7.2f", stage.getLabel(),
+                    stats.getPercentile(stage, 50), stats.getPercentile(stage, 95),
+                    stats.getPercentile(stage, 99)));
+        }
+
+        lines.add(String.format("%d / %d fps, %d dropped", stats.getFramesPerSecond(System.nanoTime()),
+                Modulator.FPS_CAP, stats.getDroppedCount()));
+        lines.add(String.format("%d partial presents", stats.getPartialCount()));
+
+        FrameCache cache = renderPipeline.getFrameCache();
+
+        lines.add(String.format("cache %d hit %d miss", cache.getHitCount(), cache.getMissCount()));
+        lines.add(String.format("      %d frames, %d / %d MB", cache.getFrameCount(),
+                cache.getBytesUsed() >> 20, cache.getByteBudget() >> 20));
+
+        // each running modulator asks for a frame up to FPS_CAP times a second
+        if (orbiter != null && orbiter.isRunning()){
+            lines.add(String.format("Orbiter: %.1f / %d fps", orbiter.getFrameRate(), Modulator.FPS_CAP));
+        }
+
+        for (Object child : glosscillatorsVBox.getChildren()){
+            if (child instanceof GlosscillatorUI){
+                GlosscillatorUI ui = (GlosscillatorUI) child;
+
+                if (ui.getGlosscillator().isRunning()){
+                    lines.add(String.format("%s: %.1f / %d fps", ui.getGlosscillatorName(),
+                            ui.getGlosscillator().getFrameRate(), Modulator.FPS_CAP));
+                }
+            }
+        }
+
+        gc.save();
+        gc.setEffect(null);
+        gc.setFont(Font.font("Monospaced", 12));
+        gc.setFill(Color.color(0, 0, 0, .6));
+        gc.fillRect(8, 8, 280, (lines.size() * 15) + 8);
+        gc.setFill(Color.WHITE);
+
+        for (int i = 0; i < lines.size(); i++){
+            gc.fillText(lines.get(i), 14, 24 + (i * 15));
+        }
+
+        gc.restore();
+    }
+
+    /**
+     * Bakes one period of the running glosscillators and orbiter at the current canvas size,
+     * writes it to LOOP_FILE_NAME and plays it. Color cyclers don't repeat, so the colors are
+     * baked as they are now.
+     */
+    private void bakeLoop(){
+        ArrayList<Glosscillator> glosscillators = new ArrayList<>();
+        boolean orbiting                        = orbiter != null && orbiter.isRunning();
+
+        for (Object child : glosscillatorsVBox.getChildren()){
+            if (child instanceof GlosscillatorUI && ((GlosscillatorUI) child).getGlosscillator().isRunning()){
+                glosscillators.add(((GlosscillatorUI) child).getGlosscillator());
+            }
+        }
+
+        if (glosscillators.isEmpty() && !orbiting){
+            System.out.println("Nothing to bake - start a glosscillator or the orbiter first");
+            return;
+        }
+
+        // a separate subject works out the settings of each frame without touching the GUI
+        FractalGenerator frameSubject           = new FractalGenerator();
+        ArrayList<FractalSnapshot> snapshots    = new ArrayList<>();
+        int frameCount                          = Modulator.FRAMES_PER_PERIOD;
+        int width                               = (int) canvas.getWidth();
+        int height                              = (int) canvas.getHeight();
+
+        frameSubject.setZoomScale(subject.getZoomScale());
+        frameSubject.setRotationOffset(subject.getRotationOffset());
+        frameSubject.setLodThreshold(subject.getLodThreshold());
+
+        for (int frame = 0; frame < frameCount; frame++){
+            double time     = (double) frame / Modulator.FPS_CAP;
+            Point2D origin  = orbiting ? Orbiter.originAt(time) : subject.getOrigin();
+
+            frameSubject.setData(
+                    childCountSpinner.getValue(),
+                    bakedValue(childRatioSpinner, glosscillators, time),
+                    bakedValue(initialRadiusSpinner, glosscillators, time),
+                    recursionDepthSpinner.getValue(),
+                    bakedValue(strokeWidthSpinner, glosscillators, time),
+                    bakedValue(decayOpacitySpinner, glosscillators, time),
+                    decayOpacityCheckBox.isSelected(),
+                    decayColorCheckBox.isSelected(),
+                    fillElementsCheckBox.isSelected(),
+                    electricKoolAidCheckBox.isSelected(),
+                    hideTethersCheckBox.isSelected(),
+                    fgColorPicker.getValue(),
+                    bgColorPicker.getValue()
+            );
+            snapshots.add(new FractalSnapshot(frameSubject).moved(origin.getX(), origin.getY()));
+        }
+
+        System.out.println("Baking " + frameCount + " frames at " + width + "x" + height);
+
+        prepareLoop(() -> {
+            BakedLoop loop = BakedLoop.bake(snapshots, width, height, Modulator.FPS_CAP,
+                    Runtime.getRuntime().availableProcessors());
+
+            loop.write(Paths.get(LOOP_FILE_NAME));
+            System.out.println("Baked loop written to ".concat(LOOP_FILE_NAME));
+
+            return loop;
+        });
+    }
+
+    /**
+     * Private helper method to find the value a spinner has at a time into a baked loop.
+     *
+     * @param spinner           the spinner
+     * @param glosscillators    the glosscillators being baked
+     * @param time              time into the loop in seconds
+     * @return                  the value of the glosscillator modulating the spinner at that
+     *                          time, or the spinner's current value if none is
+     */
+    private double bakedValue(Spinner<Double> spinner, ArrayList<Glosscillator> glosscillators, double time){
+        for (Glosscillator glosscillator : glosscillators){
+            if (glosscillator.getTarget() == spinner){
+                return glosscillator.valueAt(time);
+            }
+        }
+
+        return spinner.getValue();
+    }
+
+    /**
+     * Private helper method to bake or read a loop in the background and play it once it's ready.
+     *
+     * @param source    bakes or reads the loop
+     */
+    private void prepareLoop(Callable<BakedLoop> source){
+        if (preparingLoop){
+            return;
+        }
+
+        preparingLoop = true;
+
+        Thread thread = new Thread(() -> {
+            try {
+                BakedLoop loop = source.call();
+                Platform.runLater(() -> playLoop(loop));
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                Platform.runLater(() -> preparingLoop = false);
+            }
+        }, "glossDrop-loop");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Private helper method to play a baked loop, stopping every running modulator so that
+     * nothing but the loop's frames reach the canvas.
+     *
+     * @param loop      the loop to play
+     */
+    private void playLoop(BakedLoop loop){
+        ArrayList<Modulator> modulators = new ArrayList<>();
+
+        for (Object child : glosscillatorsVBox.getChildren()){
+            if (child instanceof GlosscillatorUI){
+                modulators.add(((GlosscillatorUI) child).getGlosscillator());
+            }
+        }
+
+        modulators.add(orbiter);
+        modulators.add(fgColorCycler);
+        modulators.add(bgColorCycler);
+
+        for (Modulator modulator : modulators){
+            if (modulator != null && modulator.isRunning()){
+                modulator.kill();
+                pausedModulators.add(modulator);
+            }
+        }
+
+        System.out.println("Playing " + loop.getFrameCount() + " frame loop, "
+                + (loop.getCompressedBytes() >> 20) + " MB deflated");
+        loopPlayer.play(loop);
+    }
+
+    /**
+     * Private helper method to stop the baked loop and start the modulators it stopped again.
+     */
+    private void stopLoop(){
+        loopPlayer.kill();
+
+        for (Modulator modulator : pausedModulators){
+            modulator.start();
+        }
+
+        pausedModulators.clear();
+        update();
+    }
+
+    /**
+     * Writes the timings of the recent frames to a CSV file in the working directory.
+     */
+    private void exportStats(){
+        try (Writer out = new FileWriter(STATS_FILE_NAME)) {
+            renderPipeline.getStats().writeCsv(out);
+            System.out.println("Frame stats written to ".concat(STATS_FILE_NAME));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     private void updateElementCount(){
@@ -681,7 +1121,37 @@ public class FractalGenGUIController implements FractalObserver {
     }
 
     private void updateDrawCount(){
-        drawCountLabel.setText(Integer.toString(subject.getDrawCount()).concat(" drawn"));
+        drawCountLabel.setText(Integer.toString(renderPipeline.getDrawCount()).concat(" drawn, ")
+                .concat(Long.toString(renderPipeline.getCulledCount())).concat(" culled"));
+    }
+
+    /**
+     * Private helper method to show the presented frame's quality level on the quality
+     * label, or why the last frame failed, and whether its deepest levels were cut.
+     */
+    private void updateQualityLabel(){
+        QualityGovernor.Quality quality = renderPipeline.getQuality();
+        String failure                  = renderPipeline.getFailure();
+
+        // a failed frame stays up until the next one is presented
+        if (failure != null){
+            qualityLabel.setText("Frame failed: ".concat(failure));
+            return;
+        }
+
+        // only shown while the governor is holding detail back
+        String text = quality == QualityGovernor.Quality.FULL
+                ? ""
+                : "Reduced: ".concat(quality.describe());
+
+        // the generator leaves out whole levels rather than go over its element limit
+        if (renderPipeline.isTruncated()){
+            String cut = String.format("epth cut at %,d elements", GeometryGenerator.MAX_ELEMENTS);
+
+            text = text.isEmpty() ? "D".concat(cut) : text.concat(", d").concat(cut);
+        }
+
+        qualityLabel.setText(text);
     }
 
     private void updateZoomLabel(){
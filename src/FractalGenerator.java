@@ -1,16 +1,18 @@
 import elements.Circle;
 import elements.Line;
+import geometry.FractalGeometry;
+import geometry.GeometryGenerator;
 import interfaces.FractalElement;
 import interfaces.FractalObserver;
 import interfaces.FractalSubject;
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import modulators.Orbiter;
+import rendering.LevelPalette;
+import rendering.PackedColor;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.concurrent.Executor;
 
 /**
  * FractalGenerator - A class that generates a fractal comprised of elements.Circle
@@ -23,6 +25,12 @@ import java.util.Random;
 public class FractalGenerator implements FractalSubject {
     /** Collection of observers watching this subject.*/
     private final ArrayList<FractalObserver> observers;
+    /** Runs the delivery of batched changes to the observers */
+    private Executor notifier;
+    /** Change mask of everything changed since observers were last notified */
+    private int pendingChanges;
+    /** Whether or not a delivery of the pending changes has been handed to the notifier */
+    private boolean notifyScheduled;
     /** Whether or not the colors decay as depth increases */
     private boolean colorDecay;
     /** Whether or not elements are filled */
@@ -50,21 +58,31 @@ public class FractalGenerator implements FractalSubject {
     /** width of line to use when drawing outlined shapes */
     private double strokeWidth;
 
-    private final Random rand;
-
-    /** collection of FractalElements generated but not rendered */
-    private ArrayList<FractalElement> fractalElements;
-    /** count of objects actually drawn in last draw operation */
-    private int drawCount;
+    /** flat buffer the fractal is generated into before rendering */
+    private final FractalGeometry geometry;
+    /** fills the geometry buffer from the current settings */
+    private final GeometryGenerator geometryGenerator;
+    /** packed color of the elements of each level, rebuilt when the settings it depends on change */
+    private int[] palette;
+    /** the palette unpacked into the Color objects FractalElements are drawn with */
+    private Color[] levelColors;
+    /** alpha of the random colors of each level */
+    private int[] levelAlphas;
     private Point2D origin;
     private double rotationOffset;
     private double zoomScale;
+    /** Subtrees narrower than this many pixels are drawn as a single splat, 0 to disable */
+    private double lodThreshold;
+    /** Seed of the random colors */
+    private long colorSeed;
 
     public FractalGenerator(){
-        this.rand       = new Random();
-        this.origin     = new Point2D(0,0);
-        this.zoomScale  = 1.0;
-        this.observers  = new ArrayList<>();
+        this.notifier           = Runnable::run;
+        this.geometry           = new FractalGeometry();
+        this.geometryGenerator  = new GeometryGenerator();
+        this.origin             = new Point2D(0,0);
+        this.zoomScale          = 1.0;
+        this.observers          = new ArrayList<>();
     }
 
     /**
@@ -90,8 +108,32 @@ public class FractalGenerator implements FractalSubject {
      */
     @Override
     public void notifyObservers() {
+        if (pendingChanges != 0 && !notifyScheduled){
+            notifyScheduled = true;
+            notifier.execute(this::deliverChanges);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param notifier  runs the delivery of a batch of changes
+     */
+    @Override
+    public void setNotifier(Executor notifier) {
+        this.notifier = notifier;
+    }
+
+    /**
+     * Private helper method to notify the observers of every change made since the last
+     * notification.
+     */
+    private void deliverChanges(){
+        int changes     = pendingChanges;
+        pendingChanges  = 0;
+        notifyScheduled = false;
+
         for (FractalObserver observer : this.observers){
-            observer.update();
+            observer.update(changes);
         }
     }
 
@@ -113,6 +155,27 @@ public class FractalGenerator implements FractalSubject {
                         double strokeWidth, double finalOpacity, boolean opacityDecay, boolean colorDecay,
                         boolean fillElements, boolean randomColors, boolean hideTethers, Color fgColor,
                         Color bgColor) {
+        boolean colorsChanged = recursionDepth != this.recursionDepth || finalOpacity != this.finalOpacity
+                || opacityDecay != this.opacityDecay || colorDecay != this.colorDecay
+                || !fgColor.equals(this.fgColor);
+
+        boolean shapeChanged = childCount != this.childCount || childRatio != this.childRatio
+                || initialRadius != this.initialRadius || recursionDepth != this.recursionDepth;
+
+        if (shapeChanged){
+            pendingChanges |= SHAPE_CHANGED;
+        }
+        if (strokeWidth != this.strokeWidth || fillElements != this.fillElements
+                || hideTethers != this.hideTethers){
+            pendingChanges |= STYLE_CHANGED;
+        }
+        if (colorsChanged || randomColors != this.randomColors){
+            pendingChanges |= COLOR_CHANGED;
+        }
+        if (!bgColor.equals(this.bgColor)){
+            pendingChanges |= BACKGROUND_CHANGED;
+        }
+
         this.childCount     = childCount;
         this.childRatio     = childRatio;
         this.initialRadius  = initialRadius;
@@ -126,6 +189,12 @@ public class FractalGenerator implements FractalSubject {
         this.hideTethers    = hideTethers;
         this.fgColor        = fgColor;
         this.bgColor        = bgColor;
+
+        geometryGenerator.setLayout(childCount, rotationOffset);
+
+        if (colorsChanged || levelColors == null){
+            updateLevelColors();
+        }
     }
 
     /**
@@ -142,7 +211,52 @@ public class FractalGenerator implements FractalSubject {
      * @param zoom  New value for the level of zoom, 1.0 being 100%
      */
     public void setZoomScale(double zoom){
-        this.zoomScale = zoom;
+        if (zoom != this.zoomScale){
+            this.zoomScale  = zoom;
+            pendingChanges  |= VIEW_CHANGED;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      Width in pixels below which subtrees are drawn as splats
+     */
+    @Override
+    public double getLodThreshold() {
+        return this.lodThreshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param lodThreshold  Width in pixels below which subtrees are drawn as splats, 0 to disable
+     */
+    @Override
+    public void setLodThreshold(double lodThreshold) {
+        if (lodThreshold != this.lodThreshold){
+            this.lodThreshold   = lodThreshold;
+            pendingChanges      |= STYLE_CHANGED;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      seed of the random colors
+     */
+    @Override
+    public long getColorSeed() {
+        return this.colorSeed;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param colorSeed     New seed of the random colors
+     */
+    @Override
+    public void setColorSeed(long colorSeed) {
+        if (colorSeed != this.colorSeed){
+            this.colorSeed  = colorSeed;
+            pendingChanges  |= COLOR_CHANGED;
+        }
     }
 
     @Override
@@ -162,6 +276,7 @@ public class FractalGenerator implements FractalSubject {
     public void setRawOrigin(Point2D rawOrigin, Canvas canvas){
         this.origin = new Point2D(rawOrigin.getX() - (canvas.getWidth()/2),
                 (rawOrigin.getY() - (canvas.getHeight()/2)) * -1);
+        pendingChanges |= VIEW_CHANGED;
     }
 
     /**
@@ -172,6 +287,7 @@ public class FractalGenerator implements FractalSubject {
     @Override
     public void setOriginOffset(double x, double y){
         origin = new Point2D(origin.getX() + x, origin.getY() + y);
+        pendingChanges |= VIEW_CHANGED;
         // todo: return to remove this
         System.out.println("Origin: " + origin.toString());
     }
@@ -182,6 +298,8 @@ public class FractalGenerator implements FractalSubject {
      */
     public void setRotationOffset(double rotationOffset){
         this.rotationOffset = rotationOffset;
+        pendingChanges      |= VIEW_CHANGED;
+        geometryGenerator.setLayout(childCount, rotationOffset);
     }
 
     /**
@@ -232,6 +350,11 @@ public class FractalGenerator implements FractalSubject {
         return this.opacityDecay;
     }
 
+    @Override
+    public boolean getColorDecay() {
+        return this.colorDecay;
+    }
+
     @Override
     public boolean getFillElements() {
         return this.fillElements;
@@ -264,102 +387,82 @@ public class FractalGenerator implements FractalSubject {
     @Override
     public ArrayList<FractalElement> getData() {
         // todo: kinda want to remove this whole implementation, but will it come in handy later?
-        this.fractalElements = new ArrayList<>();
-        generateFractal(recursionDepth, origin.getX(), origin.getY(),
-                initialRadius * zoomScale, false, null);
-        return this.fractalElements;
+        ArrayList<FractalElement> fractalElements = new ArrayList<>();
+
+        geometryGenerator.clearViewport();
+        geometryGenerator.setLevelOfDetail(0);
+        generateGeometry();
+
+        double[] centerX    = geometry.getCenterX();
+        double[] centerY    = geometry.getCenterY();
+        double[] radius     = geometry.getRadius();
+        double[] angle      = geometry.getAngle();
+        long[] path         = geometry.getPath();
+
+        for (int level = 0; level < geometry.getLevelCount(); level++){
+            Color levelColor    = levelColors[level];
+            Color parentColor   = level > 0 ? levelColors[level - 1] : null;
+            double parentRadius = level > 0 ? radius[geometry.getLevelStart(level - 1)] : 0;
+
+            for (int i = geometry.getLevelStart(level); i < geometry.getLevelEnd(level); i++){
+                if (level > 0 && drawTethers()){
+                    fractalElements.add(new Line((int)Math.round(centerX[i] - parentRadius * Math.cos(angle[i])),
+                            (int)(centerY[i] + parentRadius * Math.sin(angle[i])),
+                            parentRadius - radius[i], angle[i],
+                            randomColors ? randomColor(~colorSeed, path[i], level - 1) : parentColor));
+                }
+
+                fractalElements.add(new Circle((int)centerX[i], (int)centerY[i], radius[i],
+                        randomColors ? randomColor(colorSeed, path[i], level) : levelColor));
+            }
+        }
+
+        return fractalElements;
     }
 
-    @Override
-    public void renderFractal(GraphicsContext gc) {
-        drawCount = 0;
-        generateFractal(recursionDepth, origin.getX(), origin.getY(),
-                initialRadius * zoomScale, true, gc);
+    /**
+     * Private helper method to fill the geometry buffer with the current settings.
+     */
+    private void generateGeometry(){
+        geometryGenerator.generate(geometry, childRatio, initialRadius * zoomScale,
+                recursionDepth, origin.getX(), origin.getY());
     }
 
     /**
-     * Private helper method to recursively generate the Fractal.
+     * Private helper method to check whether the lines connecting the circles should be drawn.
      *
-     * @param remainingLevels   Remaining levels of recursion
-     * @param centerX           int of x-value of the center of this level's base circle
-     * @param centerY           int of y-value of the center of this level's base circle
-     * @param radius            double of the radius of this level's base circle
-     * @param render            whether to render directly or generate the ArrayList
-     * @param gc                GraphicsContext for direct rendering
+     * @return      true if tethers are enabled and would be visible
      */
-    private void generateFractal(int remainingLevels, double centerX, double centerY,
-                                 double radius, boolean render, GraphicsContext gc){
-        //just to be safe
-        render = render && gc != null;
-        Color elementColor = this.fgColor;
-
-        if (gc != null) {
-            gc.setLineWidth(strokeWidth);
-        }
-
-        if (colorDecay){
-            double saturationStep   = elementColor.getSaturation() / (recursionDepth - 1);
-            double saturationValue  = elementColor.getSaturation() -
-                    ((recursionDepth - remainingLevels) * saturationStep);
-            elementColor = Color.hsb(elementColor.getHue(), saturationValue, elementColor.getBrightness());
-        }
-
-        if (randomColors){
-            // might want to make this prefer colors similar to picked color
-            elementColor = new Color(rand.nextDouble(), rand.nextDouble(), rand.nextDouble(), 1.0);
-        }
-
-        if (opacityDecay){
-            double finalAlpha = 1.0 - (((double) finalOpacity) / 100);
-            double alphaValue = 1.0 - ((recursionDepth - remainingLevels) * (finalAlpha)/(recursionDepth-1));
-
-            elementColor = new Color(elementColor.getRed(), elementColor.getGreen(),
-                    elementColor.getBlue(), alphaValue);
-        }
-
-        if (render) {
-            // draw directly and increment drawCount on success
-            drawCount += Circle.drawDirect(gc, gc.getCanvas().getWidth(), gc.getCanvas().getHeight(), centerX,
-                    centerY * -1, radius, elementColor, fillElements)? 1 : 0;
-        } else {
-            this.fractalElements.add(new Circle((int)centerX, (int)centerY * -1, radius, elementColor));
-        }
-
-        if (remainingLevels > 1){
-            for (int child = 1; child <= childCount; child++) {
-                double childAngle =
-                        (Math.PI / 2) + ((2 * Math.PI * (child - 1)) / childCount) + rotationOffset;
-
-
-
-                double childRadius = radius * (childRatio * .01);
-                double lineXOffset = radius * Math.cos(childAngle);
-                double lineYOffset = radius * Math.sin(childAngle);
-
-                // skip lines if they won't be visible
-                if (childRatio < 100 && !hideTethers) {
-                    if (render) {
-                        drawCount += Line.drawDirect(gc, gc.getCanvas().getWidth(), gc.getCanvas().getHeight(),
-                                Math.round(centerX + lineXOffset),
-                                (centerY + lineYOffset) * -1,
-                                radius - childRadius, childAngle, elementColor) ? 1 : 0;
-                    } else {
-                        this.fractalElements.add(new Line((int) Math.round(centerX + lineXOffset),
-                                (int) (centerY + lineYOffset) * -1,
-                                radius - childRadius, childAngle, elementColor));
-                    }
-                }
+    private boolean drawTethers(){
+        // skip lines if they won't be visible
+        return childRatio < 100 && !hideTethers;
+    }
 
-                generateFractal(remainingLevels - 1,
-                        (int)Math.round(centerX + (2 * lineXOffset)),
-                        (int)Math.round(centerY + (2 * lineYOffset)),
-                        childRadius, render, gc);
-            }
+    /**
+     * Private helper method to rebuild the table of level colors.
+     */
+    private void updateLevelColors(){
+        palette     = LevelPalette.levelColors(fgColor, recursionDepth, colorDecay, opacityDecay, finalOpacity);
+        levelColors = new Color[palette.length];
+        levelAlphas = LevelPalette.levelAlphas(recursionDepth, opacityDecay, finalOpacity);
+
+        // FractalElements take Color objects, so each level gets one here rather than per element
+        for (int level = 0; level < palette.length; level++){
+            levelColors[level] = PackedColor.toColor(palette[level]);
         }
     }
 
-    public int getDrawCount(){
-        return this.drawCount;
+    /**
+     * Private helper method to pick the random color of an element.
+     *
+     * @param seed      seed of the random colors; tethers use the inverted seed
+     * @param path      path of the element, from FractalGeometry.childPath
+     * @param level     recursion level whose opacity the color takes
+     * @return          a random color with the level's opacity
+     */
+    private Color randomColor(long seed, long path, int level){
+        // might want to make this prefer colors similar to picked color
+        return PackedColor.toColor(LevelPalette.randomColor(seed, path, levelAlphas[level]));
     }
 
     //  Various Getters
@@ -46,6 +46,7 @@ public class GlossDrop extends Application {
     @Override
     public void stop() throws Exception{
         controller.writeSerializer();
+        controller.shutdown();
     }
 
     private class stageSizeListener implements ChangeListener<Number> {
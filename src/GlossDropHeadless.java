@@ -0,0 +1,404 @@
+import export.AnimationExporter;
+import export.GifSink;
+import export.ImageSequenceSink;
+import export.PngStreamWriter;
+import export.RawFrameSink;
+import export.TileScheduler;
+import interfaces.FrameSink;
+import javafx.geometry.Point2D;
+import modulators.AnimationClock;
+import modulators.Animator;
+import modulators.Glosscillator;
+import modulators.Modulator;
+import modulators.Orbiter;
+import modulators.VirtualClock;
+import rendering.FractalSnapshot;
+import serialization.FractalGUISerializer;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.function.Supplier;
+
+/**
+ * GlossDropHeadless - Renders a saved fractal to a PNG without a display. The image is drawn as
+ *                   tiles on every core and streamed to the file a row of tiles at a time, so
+ *                   memory stays bounded by the tile size whatever the output resolution.
+ *
+ *                   Given any modulators, renders an animation instead: one period of them by
+ *                   default, played by an Animator on a virtual clock that is stepped once per
+ *                   frame, so every export of the same settings is identical. Frames are written
+ *                   as a numbered PNG sequence, an animated GIF (--out ending in .gif) or raw
+ *                   RGBA frames (--out -, to standard output for piping into an encoder).
+ *
+ *                   Usage: GlossDropHeadless [--settings file] [--width px] [--height px]
+ *                                            [--scale factor] [--tile px] [--threads n]
+ *                                            [--lod px] [--seed n] [--out file]
+ *                                            [--oscillate parameter:amplitude]... [--orbit]
+ *                                            [--fps n] [--frames n]
+ *
+ *                   Oscillated parameters are ratio, radius, stroke, opacity and lod.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class GlossDropHeadless {
+    /** Width of the canvas the GUI opens with, which saved origins and zoom levels are relative to */
+    private static final int GUI_CANVAS_WIDTH = 1280;
+    /** Standard output, kept for raw frames while everything else printed goes to standard error */
+    private static final PrintStream FRAME_OUT = System.out;
+
+    /**
+     * A setting that can be oscillated, with the bounds its Spinner has in the GUI.
+     */
+    private enum Parameter {
+        /** Child ratio in percent */
+        RATIO("ratio", 150),
+        /** Initial radius in pixels */
+        RADIUS("radius", 200),
+        /** Stroke width in pixels */
+        STROKE("stroke", 30),
+        /** Final opacity in percent */
+        OPACITY("opacity", 100),
+        /** Level of detail threshold in pixels */
+        LOD("lod", 32);
+
+        /** Name the parameter is given on the command line */
+        private final String name;
+        /** Largest value its Spinner allows */
+        private final double max;
+
+        /**
+         * Constructs a parameter.
+         *
+         * @param name      name the parameter is given on the command line
+         * @param max       largest value its Spinner allows
+         */
+        Parameter(String name, double max){
+            this.name   = name;
+            this.max    = max;
+        }
+
+        /**
+         * Private helper method to find a parameter by its name on the command line.
+         *
+         * @param name      name of the parameter
+         * @return          the parameter with that name
+         * @throws IllegalArgumentException     if no parameter has that name
+         */
+        private static Parameter named(String name){
+            for (Parameter parameter : values()){
+                if (parameter.name.equals(name)){
+                    return parameter;
+                }
+            }
+
+            throw new IllegalArgumentException("Unknown parameter " + name);
+        }
+    }
+
+    /**
+     * Loads the settings and renders them to a PNG, or to an animation if any settings are
+     * oscillated, the origin orbits or a frame count is given. Invalid options print the usage.
+     *
+     * @param args      command line options
+     */
+    public static void main(String[] args){
+        System.setProperty("java.awt.headless", "true");
+
+        String settingsFile = "fractal_settings";
+        String outFile      = "glossdrop.png";
+        int width           = 4096;
+        int height          = 4096;
+        int tileSize        = 512;
+        int threadCount     = Runtime.getRuntime().availableProcessors();
+        double scale        = -1;
+        double lodThreshold = -1;
+        Long colorSeed      = null;
+        int frameRate       = 30;
+        int frameCount      = -1;
+        boolean orbit       = false;
+        double[] amplitudes = new double[Parameter.values().length];
+
+        try {
+            for (int i = 0; i < args.length; i++){
+                switch (args[i]){
+                    case "--settings":  settingsFile    = args[++i]; break;
+                    case "--out":       outFile         = args[++i]; break;
+                    case "--width":     width           = Integer.parseInt(args[++i]); break;
+                    case "--height":    height          = Integer.parseInt(args[++i]); break;
+                    case "--tile":      tileSize        = Integer.parseInt(args[++i]); break;
+                    case "--threads":   threadCount     = Integer.parseInt(args[++i]); break;
+                    case "--scale":     scale           = Double.parseDouble(args[++i]); break;
+                    case "--lod":       lodThreshold    = Double.parseDouble(args[++i]); break;
+                    case "--seed":      colorSeed       = Long.parseLong(args[++i]); break;
+                    case "--fps":       frameRate       = Integer.parseInt(args[++i]); break;
+                    case "--frames":    frameCount      = Integer.parseInt(args[++i]); break;
+                    case "--orbit":     orbit           = true; break;
+                    case "--oscillate":
+                        String[] oscillation = args[++i].split(":");
+                        amplitudes[Parameter.named(oscillation[0]).ordinal()] = Double.parseDouble(oscillation[1]);
+                        break;
+                    default:
+                        usage("Unknown option " + args[i]);
+                        return;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e){
+            usage("Invalid arguments");
+            return;
+        }
+
+        if (width < 1 || height < 1 || tileSize < 1 || threadCount < 1 || frameRate < 1){
+            usage("Width, height, tile, threads and fps must be positive");
+            return;
+        }
+
+        boolean oscillating = false;
+
+        for (double amplitude : amplitudes){
+            oscillating |= amplitude != 0;
+        }
+
+        // raw frames on standard output mustn't be mixed with anything printed along the way
+        if (outFile.equals("-")){
+            System.setOut(System.err);
+        }
+
+        FractalGenerator subject = new FractalGenerator();
+
+        if (!loadSettings(subject, settingsFile)){
+            System.err.println("No settings found at " + settingsFile);
+            System.exit(1);
+        }
+
+        if (lodThreshold >= 0){
+            subject.setLodThreshold(lodThreshold);
+        }
+
+        if (colorSeed != null){
+            subject.setColorSeed(colorSeed);
+        }
+
+        // by default, fit the picture to the output the way it fits the GUI's canvas
+        if (scale <= 0){
+            scale = (double) width / GUI_CANVAS_WIDTH;
+        }
+
+        if (oscillating || orbit || frameCount > 0){
+            if (frameCount < 0){
+                frameCount = (int) Math.round(Modulator.PERIOD * frameRate);
+            }
+
+            exportAnimation(subject, amplitudes, orbit, scale, frameCount, frameRate, width, height,
+                    threadCount, outFile);
+            return;
+        }
+
+        FractalSnapshot snapshot = new FractalSnapshot(subject).scaled(scale);
+
+        try {
+            long start = System.nanoTime();
+            TileScheduler scheduler = new TileScheduler(tileSize, threadCount);
+
+            try (PngStreamWriter png = new PngStreamWriter(
+                    new BufferedOutputStream(new FileOutputStream(outFile)), width, height)) {
+                scheduler.render(snapshot, width, height, png);
+            }
+
+            System.out.println("Rendered " + width + "x" + height + " to " + outFile + " in "
+                    + ((System.nanoTime() - start) / 1_000_000) + " ms, " + scheduler.getDrawCount()
+                    + " elements drawn, " + scheduler.getCulledCount() + " culled");
+        } catch (IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Private helper method to render an animation of a subject and write its frames.
+     *
+     * @param subject       the subject, holding the baseline settings
+     * @param amplitudes    amplitude each Parameter is oscillated with, indexed by ordinal
+     * @param orbit         whether or not the origin orbits
+     * @param scale         factor every length in pixels is multiplied by
+     * @param frameCount    number of frames to render
+     * @param frameRate     frames per second
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     * @param threadCount   number of frames rendered at once
+     * @param outFile       destination of the frames, "-" for raw frames on standard output
+     */
+    private static void exportAnimation(FractalGenerator subject, double[] amplitudes, boolean orbit,
+                                        double scale, int frameCount, int frameRate, int width, int height,
+                                        int threadCount, String outFile){
+        AnimatedSettings settings   = new AnimatedSettings(subject, amplitudes, orbit, scale);
+        VirtualClock time           = new VirtualClock();
+        // the exporter takes each frame's settings itself once the clock has stepped
+        AnimationClock clock        = new AnimationClock(() -> {}, time);
+
+        new Animator(clock, settings::apply).start();
+
+        try (FrameSink sink = openSink(outFile, width, height, frameRate)) {
+            long start                  = System.nanoTime();
+            AnimationExporter exporter  = new AnimationExporter(threadCount);
+
+            exporter.export(time, clock, settings, frameCount, frameRate, width, height, sink);
+
+            System.out.println("Rendered " + frameCount + " frames of " + width + "x" + height + " to " + outFile
+                    + " in " + ((System.nanoTime() - start) / 1_000_000) + " ms, "
+                    + exporter.getDrawCount() + " elements drawn");
+        } catch (IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Private helper method to open the sink the frames of an animation are written to.
+     *
+     * @param outFile       "-" for raw frames on standard output, a .gif file for an animated
+     *                      GIF, or anything else for a numbered PNG sequence
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     * @param frameRate     frames per second
+     * @return              the sink
+     * @throws IOException  if the sink can't be opened
+     */
+    private static FrameSink openSink(String outFile, int width, int height, int frameRate) throws IOException {
+        if (outFile.equals("-")){
+            return new RawFrameSink(new BufferedOutputStream(FRAME_OUT, 1 << 16), width, height);
+        }
+
+        if (outFile.toLowerCase().endsWith(".gif")){
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(outFile));
+            return new GifSink(out, width, height, frameRate);
+        }
+
+        return new ImageSequenceSink(outFile, width, height);
+    }
+
+    /**
+     * The settings of an animation as it plays, applied to a subject by an Animator and taken
+     * by the exporter as a snapshot of each frame.
+     */
+    private static class AnimatedSettings implements Supplier<FractalSnapshot> {
+        /** subject the settings are applied to and copied from */
+        private final FractalGenerator subject;
+        /** the saved settings that parameters are oscillated around */
+        private final FractalSnapshot baseline;
+        /** amplitude each Parameter is oscillated with, indexed by ordinal */
+        private final double[] amplitudes;
+        /** whether or not the origin orbits like the Orbiter moves it */
+        private final boolean orbit;
+        /** factor every length in pixels is multiplied by */
+        private final double scale;
+        /** settings of the frame at the time last applied */
+        private FractalSnapshot frame;
+
+        /**
+         * Constructs the settings of an animation, around the subject's current settings.
+         *
+         * @param subject       subject the settings are applied to and copied from
+         * @param amplitudes    amplitude each Parameter is oscillated with, indexed by ordinal
+         * @param orbit         whether or not the origin orbits
+         * @param scale         factor every length in pixels is multiplied by
+         */
+        private AnimatedSettings(FractalGenerator subject, double[] amplitudes, boolean orbit, double scale){
+            this.subject    = subject;
+            this.baseline   = new FractalSnapshot(subject);
+            this.amplitudes = amplitudes;
+            this.orbit      = orbit;
+            this.scale      = scale;
+            this.frame      = baseline.scaled(scale);
+        }
+
+        /**
+         * Applies the animation at a time into it.
+         *
+         * @param time      time into the animation in seconds
+         */
+        private void apply(double time){
+            subject.setData(baseline.getChildCount(),
+                    oscillate(Parameter.RATIO, baseline.getChildRatio(), amplitudes, time),
+                    oscillate(Parameter.RADIUS, baseline.getInitialRadius(), amplitudes, time),
+                    baseline.getRecursionDepth(),
+                    oscillate(Parameter.STROKE, baseline.getStrokeWidth(), amplitudes, time),
+                    oscillate(Parameter.OPACITY, baseline.getFinalOpacity(), amplitudes, time),
+                    baseline.getOpacityDecay(), baseline.getColorDecay(), baseline.getFillElements(),
+                    baseline.getRandomColors(), baseline.getHideTethers(), baseline.getFgColor(),
+                    baseline.getBgColor());
+            subject.setLodThreshold(oscillate(Parameter.LOD, baseline.getLodThreshold(), amplitudes, time));
+
+            Point2D origin = orbit ? Orbiter.originAt(time) : new Point2D(baseline.getOriginX(), baseline.getOriginY());
+
+            frame = new FractalSnapshot(subject).moved(origin.getX(), origin.getY()).scaled(scale);
+        }
+
+        @Override
+        public FractalSnapshot get(){
+            return this.frame;
+        }
+    }
+
+    /**
+     * Private helper method to find the value of a parameter at a time into the animation.
+     *
+     * @param parameter     the parameter
+     * @param baseline      the parameter's saved value
+     * @param amplitudes    amplitude each Parameter is oscillated with, indexed by ordinal
+     * @param time          time into the animation in seconds
+     * @return              the parameter's value at that time
+     */
+    private static double oscillate(Parameter parameter, double baseline, double[] amplitudes, double time){
+        double amplitude = amplitudes[parameter.ordinal()];
+
+        // matching the GUI, glosscillators never take a value below 0
+        return amplitude == 0 ? baseline : Glosscillator.oscillate(time, amplitude, baseline, 0, parameter.max);
+    }
+
+    /**
+     * Private helper method to load saved settings into a subject.
+     *
+     * @param subject       the subject to configure
+     * @param settingsFile  path of a settings file written by FractalGUISerializer
+     * @return              true if settings were found
+     */
+    private static boolean loadSettings(FractalGenerator subject, String settingsFile){
+        FractalGUISerializer serializer = new FractalGUISerializer(subject, settingsFile);
+
+        if (!serializer.isInitializedFromFile()){
+            return false;
+        }
+
+        subject.setData(serializer.getChildCount(), serializer.getChildRatio(),
+                serializer.getInitialRadius(), serializer.getRecursionDepth(), serializer.getStrokeWidth(),
+                serializer.getFinalOpacity(), serializer.isOpacityDecay(), serializer.isColorDecay(),
+                serializer.isFillElements(), serializer.isRandomColors(), serializer.isHideTethers(),
+                serializer.getFgColor(), serializer.getBgColor());
+
+        Point2D savedOrigin = serializer.getOrigin();
+        subject.setOriginOffset(savedOrigin.getX(), savedOrigin.getY());
+        subject.setZoomScale(serializer.getZoomScale());
+        subject.setRotationOffset(serializer.getRotationOffset());
+        subject.setLodThreshold(serializer.getLodThreshold());
+        subject.setColorSeed(serializer.getColorSeed());
+
+        return true;
+    }
+
+    /**
+     * Private helper method to print an error and how to use the renderer.
+     *
+     * @param error     what was wrong with the arguments
+     */
+    private static void usage(String error){
+        System.err.println(error);
+        System.err.println("Usage: GlossDropHeadless [--settings file] [--width px] [--height px] "
+                + "[--scale factor] [--tile px] [--threads n] [--lod px] [--seed n] [--out file] "
+                + "[--oscillate ratio|radius|stroke|opacity|lod:amplitude]... [--orbit] [--fps n] [--frames n]");
+        System.exit(2);
+    }
+}
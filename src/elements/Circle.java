@@ -1,5 +1,6 @@
 package elements;
 
+import geometry.Culling;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import interfaces.FractalElement;
@@ -57,38 +58,21 @@ public class Circle implements FractalElement {
     }
 
     /**
-     * Static method to directly draw the circle.
+     * Static method to check whether a circle would be seen if it were drawn, shared by
+     * every renderer so they agree on what gets drawn.
      *
-     * @param gc                The destination GraphicsContext.
      * @param canvasWidth       The width (in px) of the destination panel.
      * @param canvasHeight      The height (in px) of the destination panel.
-     * @param centerX           int of x-value of elements.Circle's center, relative to Cartesian origin
-     * @param centerY           int of y-value of elements.Circle's center, relative to Cartesian origin
+     * @param centerX           x-value of elements.Circle's center, relative to the canvas center
+     * @param centerY           y-value of elements.Circle's center, relative to the canvas center
      * @param radius            double of the elements.Circle's radius
-     * @param color             color of the rendered elements.Circle
+     * @param strokeWidth       width (in px) of the stroke the circle is outlined with
+     * @param fill              whether the circle is filled rather than outlined
+     * @return                  true if the circle is large enough and within the canvas
      */
-    public static boolean drawDirect(GraphicsContext gc, double canvasWidth, double canvasHeight,
-                                  double centerX, double centerY, double radius, Color color, boolean fill){
-        double x            = (Math.round(centerX - radius)) + (canvasWidth / 2);
-        double y            = Math.round(centerY - radius) + (canvasHeight / 2);
-        double diameter     = Math.round(2 * radius);
-
-        boolean withinBounds = x < canvasWidth && y < canvasHeight &&
-                y + diameter >= 0 && x + diameter >= 0;
-        boolean isVisible = diameter >= 1;
-
-        // don't draw if it won't be seen
-        if (withinBounds && isVisible) {
-            if (fill){
-                gc.setFill(color);
-                gc.fillOval(x, y, diameter, diameter);
-            }
-            else {
-                gc.setStroke(color);
-                gc.strokeOval(x, y, diameter, diameter);
-            }
-        }
-
-        return withinBounds && isVisible;
+    public static boolean isVisible(double canvasWidth, double canvasHeight, double centerX, double centerY,
+                                    double radius, double strokeWidth, boolean fill){
+        return Culling.isCircleVisible(canvasWidth / -2, canvasHeight / -2, canvasWidth / 2, canvasHeight / 2,
+                centerX, centerY, radius, strokeWidth, fill);
     }
 }
@@ -1,5 +1,6 @@
 package elements;
 
+import geometry.Culling;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import interfaces.FractalElement;
@@ -60,24 +61,23 @@ public class Line implements FractalElement {
                 this.endX + (canvasWidth / 2), this.endY + (canvasHeight / 2));
     }
 
-    public static boolean drawDirect(GraphicsContext gc, double canvasWidth, double canvasHeight,
-                                  double startX, double startY,
-                                  double length, double angle, Color color){
-        startX += (canvasWidth/2);
-        startY += (canvasHeight/2);
-        double endX = startX + Math.round(length * (Math.cos(angle)));
-        double endY = startY + Math.round(length * (Math.sin(angle))) * -1;
-
-        boolean withinBounds = (startY < canvasWidth || endX < canvasWidth) &&
-                (startY < canvasHeight || endY < canvasHeight) &&
-                (startY >= 0 || endY >= 0) && (startX >= 0 || endX >= 0);
-        boolean isVisible = length >= 1;
-
-        if (withinBounds && isVisible) {
-            gc.setStroke(color);
-            gc.strokeLine(startX, startY, endX, endY);
-        }
-
-        return withinBounds && isVisible;
+    /**
+     * Static method to check whether a line would be seen if it were drawn, shared by
+     * every renderer so they agree on what gets drawn.
+     *
+     * @param canvasWidth       The width (in px) of the destination panel.
+     * @param canvasHeight      The height (in px) of the destination panel.
+     * @param startX            x-value of the line's start, relative to the canvas center
+     * @param startY            y-value of the line's start, relative to the canvas center
+     * @param endX              x-value of the line's end, relative to the canvas center
+     * @param endY              y-value of the line's end, relative to the canvas center
+     * @param length            double of the length of the line
+     * @param strokeWidth       width (in px) of the stroke the line is drawn with
+     * @return                  true if the line is large enough and within the canvas
+     */
+    public static boolean isVisible(double canvasWidth, double canvasHeight, double startX, double startY,
+                                    double endX, double endY, double length, double strokeWidth){
+        return Culling.isLineVisible(canvasWidth / -2, canvasHeight / -2, canvasWidth / 2, canvasHeight / 2,
+                startX, startY, endX, endY, length, strokeWidth);
     }
 }
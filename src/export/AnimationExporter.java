@@ -0,0 +1,150 @@
+package export;
+
+import geometry.GeometryGenerator;
+import interfaces.FrameSink;
+import modulators.AnimationClock;
+import modulators.VirtualClock;
+import rendering.FractalSnapshot;
+import rendering.RegionRenderer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * export.AnimationExporter - Renders an animation frame by frame on a pool of threads and writes
+ *                   the frames to a FrameSink in order. The animation is played by modulators
+ *                   on an AnimationClock driven by a VirtualClock: before each frame the
+ *                   virtual time is advanced to the start of that frame and the clock is
+ *                   stepped, which hands back the frame's settings, rather than following the
+ *                   wall clock, so the animation looks the same however long each frame takes
+ *                   to render.
+ *                   Only a few frames per thread are ever in flight, so memory stays bounded
+ *                   however long the animation is.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class AnimationExporter {
+    /** Frames render sequentially, since the frames themselves already keep every core busy */
+    private static final ForkJoinPool SEQUENTIAL = new ForkJoinPool(1);
+    /** Number of frames that may be rendered or waiting to be written per thread */
+    private static final int FRAMES_PER_THREAD = 2;
+
+    /** Number of frames rendered at once */
+    private final int threadCount;
+    /** Renderer of each worker thread */
+    private final ThreadLocal<RegionRenderer> renderers;
+    /** Number of elements drawn by the last export, summed over every frame */
+    private final AtomicLong drawCount;
+
+    /**
+     * Constructs a new exporter.
+     *
+     * @param threadCount   number of frames rendered at once
+     */
+    public AnimationExporter(int threadCount){
+        if (threadCount < 1){
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+
+        this.threadCount    = threadCount;
+        this.renderers      = ThreadLocal.withInitial(() -> new RegionRenderer(new GeometryGenerator(SEQUENTIAL)));
+        this.drawCount      = new AtomicLong();
+    }
+
+    /**
+     * Renders an animation and writes every frame to a sink. The sink is not closed.
+     *
+     * @param time          virtual time the clock's modulators animate against, from 0
+     * @param clock         clock whose modulators play the animation, stepped once per frame
+     * @param animation     reads the settings the modulators have left the fractal in after
+     *                      each step
+     * @param frameCount    number of frames to render
+     * @param frameRate     frames per second, which sets the virtual time of each frame
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     * @param sink          destination of the frames
+     * @throws IOException  if a frame failed to render or couldn't be written
+     */
+    public void export(VirtualClock time, AnimationClock clock, Supplier<FractalSnapshot> animation,
+                       int frameCount, int frameRate, int width, int height, FrameSink sink) throws IOException {
+        ExecutorService executor                    = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "GlossDrop Frame");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<BufferedImage>> inFlight  = new ArrayDeque<>();
+        ArrayDeque<BufferedImage> freeImages        = new ArrayDeque<>();
+        int windowSize                              = threadCount * FRAMES_PER_THREAD;
+
+        drawCount.set(0);
+
+        try {
+            for (int frame = 0; frame < frameCount; frame++){
+                // wait for the oldest frame before starting another once the window is full
+                if (inFlight.size() == windowSize){
+                    freeImages.add(writeNext(inFlight, sink));
+                }
+
+                time.advanceToFrame(frame, frameRate);
+
+                FractalSnapshot snapshot    = clock.step(animation);
+                BufferedImage image         = freeImages.isEmpty() ?
+                        new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE) : freeImages.poll();
+
+                inFlight.add(executor.submit(() -> {
+                    drawCount.addAndGet(renderers.get().render(snapshot, width, height, 0, 0, image));
+                    return image;
+                }));
+            }
+
+            while (!inFlight.isEmpty()){
+                writeNext(inFlight, sink);
+            }
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering frames", e);
+        } catch (ExecutionException e){
+            throw new IOException("A frame failed to render", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of elements drawn by the last export, summed over every frame.
+     *
+     * @return      Number of elements drawn as a long
+     */
+    public long getDrawCount(){
+        return drawCount.get();
+    }
+
+    /**
+     * Private helper method to wait for the oldest frame in flight and write it.
+     *
+     * @param inFlight      frames being rendered, oldest first
+     * @param sink          destination of the frames
+     * @return              the written frame's image, free to render another frame into
+     * @throws IOException              if the frame can't be written
+     * @throws InterruptedException     if interrupted while waiting for the frame
+     * @throws ExecutionException       if the frame failed to render
+     */
+    private BufferedImage writeNext(ArrayDeque<Future<BufferedImage>> inFlight, FrameSink sink)
+            throws IOException, InterruptedException, ExecutionException {
+        BufferedImage image = inFlight.poll().get();
+
+        sink.writeFrame(((DataBufferInt) image.getRaster().getDataBuffer()).getData());
+
+        return image;
+    }
+}
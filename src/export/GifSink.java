@@ -0,0 +1,157 @@
+package export;
+
+import interfaces.FrameSink;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * export.GifSink - Writes frames to an endlessly looping animated GIF with ImageIO. GIFs hold
+ *                   at most 256 colors a frame and no partial transparency, so each frame is
+ *                   composited over black and ImageIO picks its palette.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class GifSink implements FrameSink {
+    /** Native metadata format of the GIF writer, which holds the frame delay and loop */
+    private static final String METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+
+    /** Writer encoding the frames */
+    private final ImageWriter writer;
+    /** Destination of the GIF */
+    private final ImageOutputStream out;
+    /** Default parameters every frame is written with */
+    private final ImageWriteParam param;
+    /** Opaque image each frame is composited into before being written */
+    private final BufferedImage frame;
+    /** Frames per second, which sets each frame's delay */
+    private final int frameRate;
+    /** Number of frames written so far */
+    private int frameCount;
+
+    /**
+     * Starts a new GIF.
+     *
+     * @param out           destination of the GIF, closed along with this sink
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     * @param frameRate     frames per second the GIF plays at
+     * @throws IOException  if ImageIO can't write GIFs, or the GIF can't be started
+     */
+    public GifSink(OutputStream out, int width, int height, int frameRate) throws IOException {
+        if (!ImageIO.getImageWritersByFormatName("gif").hasNext()){
+            throw new IOException("No GIF writer is available");
+        }
+
+        this.writer     = ImageIO.getImageWritersByFormatName("gif").next();
+        this.out        = ImageIO.createImageOutputStream(out);
+        this.param      = writer.getDefaultWriteParam();
+        this.frame      = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        this.frameRate  = frameRate;
+
+        writer.setOutput(this.out);
+        writer.prepareWriteSequence(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param pixels        the frame's pixels as premultiplied ARGB, row by row
+     * @throws IOException  if the frame can't be written
+     */
+    @Override
+    public void writeFrame(int[] pixels) throws IOException {
+        int[] rgb = ((DataBufferInt) frame.getRaster().getDataBuffer()).getData();
+
+        // premultiplied color is already the color composited over black
+        for (int i = 0; i < rgb.length; i++){
+            rgb[i] = pixels[i] & 0xffffff;
+        }
+
+        writer.writeToSequence(new IIOImage(frame, null, frameMetadata()), param);
+        frameCount++;
+    }
+
+    /**
+     * Finishes the GIF and closes the destination stream.
+     *
+     * @throws IOException  if the GIF can't be finished
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+            out.close();
+        }
+    }
+
+    /**
+     * Private helper method to build the metadata of the next frame. GIF delays are whole
+     * hundredths of a second, so each frame's delay is rounded so that the delays add up to the
+     * frame rate over time. The first frame also tells players to loop forever.
+     *
+     * @return              the frame's metadata
+     * @throws IOException  if the metadata can't be built
+     */
+    private IIOMetadata frameMetadata() throws IOException {
+        IIOMetadata metadata    = writer.getDefaultImageMetadata(
+                ImageTypeSpecifier.createFromRenderedImage(frame), param);
+        IIOMetadataNode root    = (IIOMetadataNode) metadata.getAsTree(METADATA_FORMAT);
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        long delay              = Math.round(100.0 * (frameCount + 1) / frameRate)
+                - Math.round(100.0 * frameCount / frameRate);
+
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", Long.toString(delay));
+        control.setAttribute("transparentColorIndex", "0");
+
+        if (frameCount == 0){
+            IIOMetadataNode extensions  = child(root, "ApplicationExtensions");
+            IIOMetadataNode loop        = new IIOMetadataNode("ApplicationExtension");
+
+            // NETSCAPE2.0 block with a loop count of 0, meaning forever
+            loop.setAttribute("applicationID", "NETSCAPE");
+            loop.setAttribute("authenticationCode", "2.0");
+            loop.setUserObject(new byte[]{1, 0, 0});
+            extensions.appendChild(loop);
+        }
+
+        metadata.setFromTree(METADATA_FORMAT, root);
+
+        return metadata;
+    }
+
+    /**
+     * Private helper method to find a child of a metadata node, adding it if it's missing.
+     *
+     * @param parent        the node to look in
+     * @param name          name of the child
+     * @return              the child
+     */
+    private static IIOMetadataNode child(IIOMetadataNode parent, String name){
+        for (int i = 0; i < parent.getLength(); i++){
+            if (parent.item(i).getNodeName().equals(name)){
+                return (IIOMetadataNode) parent.item(i);
+            }
+        }
+
+        IIOMetadataNode child = new IIOMetadataNode(name);
+        parent.appendChild(child);
+
+        return child;
+    }
+}
@@ -0,0 +1,64 @@
+package export;
+
+import interfaces.FrameSink;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * export.ImageSequenceSink - Writes each frame of an animation to its own numbered PNG, for
+ *                   assembling into a video with another tool.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class ImageSequenceSink implements FrameSink {
+    /** Path of the files up to the frame number */
+    private final String prefix;
+    /** Width of each frame in pixels */
+    private final int width;
+    /** Height of each frame in pixels */
+    private final int height;
+    /** Number of frames written so far, which numbers the next file */
+    private int frameCount;
+
+    /**
+     * Constructs a new sink. Frames are named after the given file, so "out.png" becomes
+     * "out_00000.png", "out_00001.png" and so on.
+     *
+     * @param fileName      name the frame file names are based on
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     */
+    public ImageSequenceSink(String fileName, int width, int height){
+        this.prefix = fileName.toLowerCase().endsWith(".png") ?
+                fileName.substring(0, fileName.length() - 4) : fileName;
+        this.width  = width;
+        this.height = height;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param pixels        the frame's pixels as premultiplied ARGB, row by row
+     * @throws IOException  if the frame's file can't be written
+     */
+    @Override
+    public void writeFrame(int[] pixels) throws IOException {
+        String fileName = String.format("%s_%05d.png", prefix, frameCount);
+
+        try (PngStreamWriter png = new PngStreamWriter(
+                new BufferedOutputStream(new FileOutputStream(fileName)), width, height)) {
+            png.writeRows(pixels, 0, width, height);
+        }
+
+        frameCount++;
+    }
+
+    /**
+     * Every frame is closed as soon as it is written, so there is nothing left to do.
+     */
+    @Override
+    public void close(){
+    }
+}
@@ -0,0 +1,219 @@
+package export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * export.PngStreamWriter - Writes an 8-bit RGBA PNG one row at a time. Rows are compressed and
+ *                   flushed as they arrive, so an image of any size can be written while only
+ *                   the rows currently being rendered are held in memory.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class PngStreamWriter implements Closeable {
+    /** Size of the IDAT chunks the compressed rows are split into */
+    private static final int CHUNK_SIZE = 1 << 16;
+    /** Bytes every PNG file starts with */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+
+    /** Destination of the PNG */
+    private final DataOutputStream out;
+    /** Compresses the filtered rows into IDAT chunks */
+    private final DeflaterOutputStream deflater;
+    /** Width of the image in pixels */
+    private final int width;
+    /** Height of the image in pixels */
+    private final int height;
+    /** One filtered row: a filter type byte followed by RGBA samples */
+    private final byte[] rowBytes;
+    /** Number of rows written so far */
+    private int rowsWritten;
+
+    /**
+     * Starts a new PNG, writing its header immediately.
+     *
+     * @param out           destination of the encoded image, closed along with this writer
+     * @param width         width of the image in pixels
+     * @param height        height of the image in pixels
+     * @throws IOException  if the header can't be written
+     */
+    public PngStreamWriter(OutputStream out, int width, int height) throws IOException {
+        this.out        = new DataOutputStream(out);
+        this.width      = width;
+        this.height     = height;
+        this.rowBytes   = new byte[1 + (width * 4)];
+
+        this.out.write(SIGNATURE);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerData  = new DataOutputStream(header);
+
+        headerData.writeInt(width);
+        headerData.writeInt(height);
+        headerData.writeByte(8);    // bit depth
+        headerData.writeByte(6);    // color type: truecolor with alpha
+        headerData.writeByte(0);    // compression method
+        headerData.writeByte(0);    // filter method
+        headerData.writeByte(0);    // no interlacing
+        writeChunk("IHDR", header.toByteArray(), header.size());
+
+        this.deflater = new DeflaterOutputStream(new ChunkStream(), new Deflater(Deflater.BEST_SPEED), CHUNK_SIZE);
+    }
+
+    /**
+     * Writes a run of rows of premultiplied ARGB pixels, as stored by a
+     * BufferedImage.TYPE_INT_ARGB_PRE image.
+     *
+     * @param pixels        the pixels, row after row
+     * @param offset        index of the first pixel of the first row
+     * @param scanline      distance between the first pixels of consecutive rows
+     * @param rows          number of rows to write
+     * @throws IOException  if the rows can't be written
+     */
+    public void writeRows(int[] pixels, int offset, int scanline, int rows) throws IOException {
+        if (rowsWritten + rows > height){
+            throw new IllegalStateException("More rows written than the image's height of " + height);
+        }
+
+        for (int row = 0; row < rows; row++){
+            int index = offset + (row * scanline);
+
+            // filter type 0 - the rows are left unfiltered
+            rowBytes[0] = 0;
+            toRgba(pixels, index, width, rowBytes, 1);
+
+            deflater.write(rowBytes);
+        }
+
+        rowsWritten += rows;
+    }
+
+    /**
+     * Finishes the image and closes the destination stream.
+     *
+     * @throws IOException  if the image can't be finished, or not every row was written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            deflater.close();
+            writeChunk("IEND", new byte[0], 0);
+
+            if (rowsWritten != height){
+                throw new IOException("Only " + rowsWritten + " of " + height + " rows were written");
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Converts premultiplied ARGB pixels to straight 8-bit RGBA samples.
+     *
+     * @param pixels        the pixels
+     * @param offset        index of the first pixel to convert
+     * @param count         number of pixels to convert
+     * @param rgba          destination of the samples, 4 bytes per pixel
+     * @param rgbaOffset    index of the first sample in the destination
+     */
+    static void toRgba(int[] pixels, int offset, int count, byte[] rgba, int rgbaOffset){
+        for (int x = 0; x < count; x++){
+            int argb    = pixels[offset + x];
+            int alpha   = argb >>> 24;
+            int i       = rgbaOffset + (x * 4);
+
+            if (alpha == 0){
+                rgba[i] = rgba[i + 1] = rgba[i + 2] = rgba[i + 3] = 0;
+            } else {
+                rgba[i]     = (byte) unpremultiply((argb >> 16) & 0xff, alpha);
+                rgba[i + 1] = (byte) unpremultiply((argb >> 8) & 0xff, alpha);
+                rgba[i + 2] = (byte) unpremultiply(argb & 0xff, alpha);
+                rgba[i + 3] = (byte) alpha;
+            }
+        }
+    }
+
+    /**
+     * Private helper method to undo premultiplied alpha on a color component.
+     *
+     * @param component     the premultiplied component
+     * @param alpha         the pixel's alpha
+     * @return              the straight component
+     */
+    private static int unpremultiply(int component, int alpha){
+        return alpha == 255 ? component : Math.min(255, ((component * 255) + (alpha / 2)) / alpha);
+    }
+
+    /**
+     * Private helper method to write a PNG chunk.
+     *
+     * @param type          four letter chunk type
+     * @param data          chunk data
+     * @param length        number of bytes of data to write
+     * @throws IOException  if the chunk can't be written
+     */
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes    = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc           = new CRC32();
+
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Collects compressed image data and writes it out as IDAT chunks.
+     */
+    private class ChunkStream extends OutputStream {
+        /** Compressed data waiting to fill a chunk */
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        /** Number of bytes in the buffer */
+        private int count;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0){
+                int copied = Math.min(len, buffer.length - count);
+
+                System.arraycopy(b, off, buffer, count, copied);
+                count   += copied;
+                off     += copied;
+                len     -= copied;
+
+                if (count == buffer.length){
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (count > 0){
+                writeChunk("IDAT", buffer, count);
+                count = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package export;
+
+import interfaces.FrameSink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * export.RawFrameSink - Writes frames as raw 8-bit RGBA samples with no header, one frame after
+ *                   another, for piping into an encoder that reads raw video from its standard
+ *                   input. With ffmpeg, for example:
+ *
+ *                   ffmpeg -f rawvideo -pix_fmt rgba -s WIDTHxHEIGHT -r FPS -i - out.mp4
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class RawFrameSink implements FrameSink {
+    /** Destination of the frames */
+    private final OutputStream out;
+    /** Width of each frame in pixels */
+    private final int width;
+    /** Height of each frame in pixels */
+    private final int height;
+    /** One row of RGBA samples */
+    private final byte[] rowBytes;
+
+    /**
+     * Constructs a new sink.
+     *
+     * @param out           destination of the frames, closed along with this sink
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     */
+    public RawFrameSink(OutputStream out, int width, int height){
+        this.out        = out;
+        this.width      = width;
+        this.height     = height;
+        this.rowBytes   = new byte[width * 4];
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param pixels        the frame's pixels as premultiplied ARGB, row by row
+     * @throws IOException  if the frame can't be written
+     */
+    @Override
+    public void writeFrame(int[] pixels) throws IOException {
+        for (int y = 0; y < height; y++){
+            PngStreamWriter.toRgba(pixels, y * width, width, rowBytes, 0);
+            out.write(rowBytes);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,228 @@
+package export;
+
+import geometry.GeometryGenerator;
+import rendering.FractalSnapshot;
+import rendering.RegionRenderer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * export.TileScheduler - Renders a canvas of any size as fixed-size square tiles on a pool of
+ *                   threads. Every tile generates only the part of the fractal that reaches
+ *                   it, and is written to a scratch file on disk as soon as it finishes. Rows
+ *                   are streamed from the scratch file to a PngStreamWriter in order while
+ *                   later tiles are still rendering, so the heap only ever holds one tile per
+ *                   thread and one row of the image, whatever the output resolution.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class TileScheduler {
+    /** Tiles generate sequentially, since the tiles themselves already keep every core busy */
+    private static final ForkJoinPool SEQUENTIAL = new ForkJoinPool(1);
+
+    /** Width and height of each tile in pixels */
+    private final int tileSize;
+    /** Number of tiles rendered at once */
+    private final int threadCount;
+
+    /** Renderer of each worker thread */
+    private final ThreadLocal<RegionRenderer> renderers;
+    /** Tile image of each worker thread */
+    private final ThreadLocal<BufferedImage> tiles;
+    /** Row buffer of each worker thread */
+    private final ThreadLocal<ByteBuffer> tileRows;
+    /** Number of elements drawn by the last render, summed over every tile */
+    private final AtomicLong drawCount;
+    /** Number of elements culled by the last render, summed over every tile */
+    private final AtomicLong culledCount;
+
+    /**
+     * Constructs a new scheduler.
+     *
+     * @param tileSize      width and height of each tile in pixels
+     * @param threadCount   number of tiles rendered at once
+     */
+    public TileScheduler(int tileSize, int threadCount){
+        if (tileSize < 1 || threadCount < 1){
+            throw new IllegalArgumentException("Tile size and thread count must be positive");
+        }
+
+        this.tileSize       = tileSize;
+        this.threadCount    = threadCount;
+        this.renderers      = ThreadLocal.withInitial(() -> new RegionRenderer(new GeometryGenerator(SEQUENTIAL)));
+        this.tiles          = ThreadLocal.withInitial(() ->
+                new BufferedImage(tileSize, tileSize, BufferedImage.TYPE_INT_ARGB_PRE));
+        this.tileRows       = ThreadLocal.withInitial(() -> ByteBuffer.allocate(tileSize * 4));
+        this.drawCount      = new AtomicLong();
+        this.culledCount    = new AtomicLong();
+    }
+
+    /**
+     * Renders a snapshot and writes it to a PNG.
+     *
+     * @param snapshot      settings to render, already scaled to the canvas
+     * @param width         width of the canvas in pixels
+     * @param height        height of the canvas in pixels
+     * @param png           destination of the rendered rows, sized width by height
+     * @throws IOException  if the scratch file or rows can't be written, or a tile failed to render
+     */
+    public void render(FractalSnapshot snapshot, int width, int height, PngStreamWriter png) throws IOException {
+        Path scratchFile            = Files.createTempFile("glossdrop", ".tiles");
+        ExecutorService executor    = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "GlossDrop Tile");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        drawCount.set(0);
+        culledCount.set(0);
+
+        try (FileChannel scratch = FileChannel.open(scratchFile, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            List<List<Future<?>>> bands = new ArrayList<>();
+            ByteBuffer rowBytes         = ByteBuffer.allocate(width * 4);
+            int[] row                   = new int[width];
+
+            // queue every tile up front, top row first, so rows finish roughly in order
+            for (int top = 0; top < height; top += tileSize){
+                bands.add(submitBand(executor, scratch, snapshot, width, height, top));
+            }
+
+            for (int band = 0; band < bands.size(); band++){
+                for (Future<?> tile : bands.get(band)){
+                    tile.get();
+                }
+
+                int top     = band * tileSize;
+                int rows    = Math.min(tileSize, height - top);
+
+                for (int y = top; y < top + rows; y++){
+                    rowBytes.clear();
+                    readFully(scratch, rowBytes, (long) y * width * 4);
+                    rowBytes.flip();
+                    rowBytes.asIntBuffer().get(row);
+                    png.writeRows(row, 0, width, 1);
+                }
+            }
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering tiles", e);
+        } catch (ExecutionException e){
+            throw new IOException("A tile failed to render", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(scratchFile);
+        }
+    }
+
+    /**
+     * Returns the number of elements drawn by the last render, summed over every tile.
+     *
+     * @return      Number of elements drawn as a long
+     */
+    public long getDrawCount(){
+        return drawCount.get();
+    }
+
+    /**
+     * Returns the number of elements culled by the last render, summed over every tile.
+     *
+     * @return      Number of elements culled as a long
+     */
+    public long getCulledCount(){
+        return culledCount.get();
+    }
+
+    /**
+     * Private helper method to queue every tile of a row of tiles.
+     *
+     * @param executor      pool the tiles are rendered in
+     * @param scratch       file the finished tiles are written to, row-major ARGB
+     * @param snapshot      settings to render
+     * @param width         width of the canvas in pixels
+     * @param height        height of the canvas in pixels
+     * @param top           y-value of the top of the row of tiles
+     * @return              the queued tiles
+     */
+    private List<Future<?>> submitBand(ExecutorService executor, FileChannel scratch, FractalSnapshot snapshot,
+                                       int width, int height, int top){
+        int rows                = Math.min(tileSize, height - top);
+        List<Future<?>> band    = new ArrayList<>();
+
+        for (int left = 0; left < width; left += tileSize){
+            int tileX       = left;
+            int columns     = Math.min(tileSize, width - left);
+
+            band.add(executor.submit(() -> {
+                BufferedImage tile      = tiles.get();
+                RegionRenderer renderer = renderers.get();
+                ByteBuffer rowBytes     = tileRows.get();
+                int[] tilePixels        = ((DataBufferInt) tile.getRaster().getDataBuffer()).getData();
+
+                drawCount.addAndGet(renderer.render(snapshot, width, height, tileX, top, tile));
+                culledCount.addAndGet(renderer.getCulledCount());
+
+                for (int y = 0; y < rows; y++){
+                    rowBytes.clear();
+                    rowBytes.asIntBuffer().put(tilePixels, y * tileSize, columns);
+                    rowBytes.limit(columns * 4);
+                    writeFully(scratch, rowBytes, (((long) (top + y) * width) + tileX) * 4);
+                }
+
+                return null;
+            }));
+        }
+
+        return band;
+    }
+
+    /**
+     * Private helper method to write a whole buffer at a position in a file.
+     *
+     * @param channel       the file
+     * @param buffer        bytes to write
+     * @param position      offset in the file to write them at
+     * @throws IOException  if the bytes can't be written
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()){
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Private helper method to fill a whole buffer from a position in a file.
+     *
+     * @param channel       the file
+     * @param buffer        buffer to fill
+     * @param position      offset in the file to read from
+     * @throws IOException  if the bytes can't be read
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()){
+            int read = channel.read(buffer, position);
+
+            if (read < 0){
+                throw new IOException("Scratch file ended early");
+            }
+
+            position += read;
+        }
+    }
+}
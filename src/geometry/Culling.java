@@ -0,0 +1,180 @@
+package geometry;
+
+/**
+ * geometry.Culling - Decides whether circles, rings and tethers reach a rectangle, taking the
+ *                   width of the stroke they are drawn with into account. Every renderer and
+ *                   the generator cull with these same tests, so they always agree on what
+ *                   can be seen. Any consistent coordinate system works, as long as the
+ *                   rectangle and the shape share it.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public final class Culling {
+    /** Smallest diameter in pixels that a circle is drawn at */
+    public static final double MIN_DIAMETER = .5;
+    /** Smallest length in pixels that a line is drawn at */
+    public static final double MIN_LENGTH = 1;
+    /** How far past the exact shape antialiasing and stroke normalization can touch a pixel */
+    private static final double ANTIALIAS_MARGIN = 1;
+    /** How far the corner of a square cap reaches past the end of a line, per unit of half stroke */
+    private static final double CAP_REACH = Math.sqrt(2);
+
+    /** Not instantiable, every test is static */
+    private Culling(){}
+
+    /**
+     * Checks whether a circle would be seen inside a rectangle if it were drawn. A stroked
+     * circle is a ring as wide as the stroke, so it isn't seen from a rectangle that lies
+     * entirely inside its hole.
+     *
+     * @param minX          left edge of the rectangle
+     * @param minY          top edge of the rectangle
+     * @param maxX          right edge of the rectangle
+     * @param maxY          bottom edge of the rectangle
+     * @param centerX       x-value of the circle's center
+     * @param centerY       y-value of the circle's center
+     * @param radius        radius of the circle
+     * @param strokeWidth   width of the stroke the circle is outlined with
+     * @param fill          whether the circle is filled rather than outlined
+     * @return              true if the circle is large enough and reaches the rectangle
+     */
+    public static boolean isCircleVisible(double minX, double minY, double maxX, double maxY,
+                                          double centerX, double centerY, double radius,
+                                          double strokeWidth, boolean fill){
+        double reach = (fill ? 0 : strokeWidth / 2) + ANTIALIAS_MARGIN;
+
+        return 2 * radius >= MIN_DIAMETER
+                && ringIntersectsRect(centerX, centerY, fill ? 0 : radius - reach, radius + reach,
+                        minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Checks whether a line drawn with square caps would be seen inside a rectangle.
+     *
+     * @param minX          left edge of the rectangle
+     * @param minY          top edge of the rectangle
+     * @param maxX          right edge of the rectangle
+     * @param maxY          bottom edge of the rectangle
+     * @param startX        x-value of the line's start
+     * @param startY        y-value of the line's start
+     * @param endX          x-value of the line's end
+     * @param endY          y-value of the line's end
+     * @param length        length of the line
+     * @param strokeWidth   width of the stroke the line is drawn with
+     * @return              true if the line is large enough and reaches the rectangle
+     */
+    public static boolean isLineVisible(double minX, double minY, double maxX, double maxY,
+                                        double startX, double startY, double endX, double endY,
+                                        double length, double strokeWidth){
+        // every point of the stroke is within this distance of the line on each axis
+        double margin = ((strokeWidth / 2) * CAP_REACH) + ANTIALIAS_MARGIN;
+
+        return length >= MIN_LENGTH
+                && segmentIntersectsRect(startX, startY, endX, endY,
+                        minX - margin, minY - margin, maxX + margin, maxY + margin);
+    }
+
+    /**
+     * Checks whether a disc reaches a rectangle, by how far its center is from the nearest
+     * point of the rectangle. Tighter than comparing bounding boxes near the corners.
+     *
+     * @param centerX       x-value of the disc's center
+     * @param centerY       y-value of the disc's center
+     * @param radius        radius of the disc
+     * @param minX          left edge of the rectangle
+     * @param minY          top edge of the rectangle
+     * @param maxX          right edge of the rectangle
+     * @param maxY          bottom edge of the rectangle
+     * @return              true if any of the disc is inside the rectangle
+     */
+    public static boolean discIntersectsRect(double centerX, double centerY, double radius,
+                                             double minX, double minY, double maxX, double maxY){
+        return ringIntersectsRect(centerX, centerY, 0, radius, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Checks whether a ring reaches a rectangle. It doesn't if the rectangle's nearest point is
+     * beyond the outer radius, or if its farthest corner is within the inner radius.
+     *
+     * @param centerX       x-value of the ring's center
+     * @param centerY       y-value of the ring's center
+     * @param innerRadius   radius of the ring's hole, 0 or less for a disc
+     * @param outerRadius   radius of the ring's outside edge
+     * @param minX          left edge of the rectangle
+     * @param minY          top edge of the rectangle
+     * @param maxX          right edge of the rectangle
+     * @param maxY          bottom edge of the rectangle
+     * @return              true if any of the ring is inside the rectangle
+     */
+    public static boolean ringIntersectsRect(double centerX, double centerY, double innerRadius,
+                                             double outerRadius, double minX, double minY,
+                                             double maxX, double maxY){
+        double nearX = Math.max(0, Math.max(minX - centerX, centerX - maxX));
+        double nearY = Math.max(0, Math.max(minY - centerY, centerY - maxY));
+
+        if ((nearX * nearX) + (nearY * nearY) > outerRadius * outerRadius){
+            return false;
+        }
+
+        if (innerRadius <= 0){
+            return true;
+        }
+
+        double farX = Math.max(centerX - minX, maxX - centerX);
+        double farY = Math.max(centerY - minY, maxY - centerY);
+
+        return (farX * farX) + (farY * farY) >= innerRadius * innerRadius;
+    }
+
+    /**
+     * Checks whether a line segment reaches a rectangle, by clipping it to the rectangle one
+     * axis at a time.
+     *
+     * @param startX        x-value of the segment's start
+     * @param startY        y-value of the segment's start
+     * @param endX          x-value of the segment's end
+     * @param endY          y-value of the segment's end
+     * @param minX          left edge of the rectangle
+     * @param minY          top edge of the rectangle
+     * @param maxX          right edge of the rectangle
+     * @param maxY          bottom edge of the rectangle
+     * @return              true if any of the segment is inside the rectangle
+     */
+    public static boolean segmentIntersectsRect(double startX, double startY, double endX, double endY,
+                                                double minX, double minY, double maxX, double maxY){
+        // comparing bounding boxes settles almost every segment
+        if (Math.max(startX, endX) < minX || Math.min(startX, endX) > maxX
+                || Math.max(startY, endY) < minY || Math.min(startY, endY) > maxY){
+            return false;
+        }
+
+        if (startX >= minX && startX <= maxX && startY >= minY && startY <= maxY){
+            return true;
+        }
+
+        double dx       = endX - startX;
+        double dy       = endY - startY;
+        double enter    = 0;
+        double exit     = 1;
+
+        // a segment parallel to an axis already lies between that axis' edges, or it was rejected
+        if (dx != 0){
+            double toMin = (minX - startX) / dx;
+            double toMax = (maxX - startX) / dx;
+
+            enter   = Math.max(enter, Math.min(toMin, toMax));
+            exit    = Math.min(exit, Math.max(toMin, toMax));
+        }
+
+        if (dy != 0){
+            double toMin = (minY - startY) / dy;
+            double toMax = (maxY - startY) / dy;
+
+            enter   = Math.max(enter, Math.min(toMin, toMax));
+            exit    = Math.min(exit, Math.max(toMin, toMax));
+        }
+
+        return enter <= exit;
+    }
+}
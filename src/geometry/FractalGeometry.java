@@ -0,0 +1,390 @@
+package geometry;
+
+import java.util.Arrays;
+
+/**
+ * geometry.FractalGeometry - A flat, struct-of-arrays buffer holding every element of a generated
+ *                   fractal. Elements are stored breadth-first, so each recursion level occupies
+ *                   one contiguous range of the buffer. Coordinates are relative to the center
+ *                   of the canvas with the y-axis pointing down, ready to be drawn.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class FractalGeometry {
+    /** Initial number of elements the buffer can hold before growing */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /** x-values of each element's center */
+    private double[] centerX;
+    /** y-values of each element's center */
+    private double[] centerY;
+    /** radius of each element */
+    private double[] radius;
+    /** angle of the tether connecting each element to its parent */
+    private double[] angle;
+    /** recursion level of each element, 0 being the initial element */
+    private int[] level;
+    /** which of its parent's children each element is, indexing the direction tables */
+    private int[] slot;
+    /** hash of the slots leading from the initial element to each element, the same however
+        the fractal is culled or viewed */
+    private long[] path;
+    /** cosine of the tether angle of each child slot */
+    private double[] slotCos;
+    /** sine of the tether angle of each child slot */
+    private double[] slotSin;
+    /** index of the first element of each level */
+    private int[] levelStart;
+    /** number of levels that have been started */
+    private int levelCount;
+    /** number of elements in the buffer */
+    private int size;
+    /** number of elements left out because their subtree was entirely off the canvas */
+    private long culledCount;
+    /** level whose elements stand in for their whole subtree, or -1 if there is none */
+    private int splatLevel;
+    /** radius the splats are drawn with, covering their whole subtree */
+    private double splatRadius;
+
+    /**
+     * Constructs a new, empty buffer with the default capacity.
+     */
+    public FractalGeometry(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty buffer.
+     *
+     * @param capacity      number of elements the buffer can hold before growing
+     */
+    public FractalGeometry(int capacity){
+        capacity        = Math.max(capacity, 1);
+        this.centerX    = new double[capacity];
+        this.centerY    = new double[capacity];
+        this.radius     = new double[capacity];
+        this.angle      = new double[capacity];
+        this.level      = new int[capacity];
+        this.slot       = new int[capacity];
+        this.path       = new long[capacity];
+        this.levelStart = new int[8];
+        this.slotCos    = new double[0];
+        this.slotSin    = new double[0];
+        this.splatLevel = -1;
+    }
+
+    /**
+     * Empties the buffer without releasing its arrays.
+     */
+    public void clear(){
+        this.size           = 0;
+        this.levelCount     = 0;
+        this.culledCount    = 0;
+        this.splatLevel     = -1;
+        this.splatRadius    = 0;
+    }
+
+    /**
+     * Grows the buffer so that it can hold at least the given number of elements.
+     *
+     * @param capacity      minimum number of elements the buffer must be able to hold
+     */
+    public void ensureCapacity(int capacity){
+        if (capacity > centerX.length){
+            int newCapacity = (int)Math.min(Math.max((long)centerX.length * 2, capacity), Integer.MAX_VALUE - 8);
+
+            centerX = Arrays.copyOf(centerX, newCapacity);
+            centerY = Arrays.copyOf(centerY, newCapacity);
+            radius  = Arrays.copyOf(radius, newCapacity);
+            angle   = Arrays.copyOf(angle, newCapacity);
+            level   = Arrays.copyOf(level, newCapacity);
+            slot    = Arrays.copyOf(slot, newCapacity);
+            path    = Arrays.copyOf(path, newCapacity);
+        }
+    }
+
+    /**
+     * Starts a new recursion level. Every element added afterwards belongs to it.
+     */
+    public void beginLevel(){
+        if (levelCount + 1 >= levelStart.length){
+            levelStart = Arrays.copyOf(levelStart, levelStart.length * 2);
+        }
+
+        levelStart[levelCount++] = size;
+    }
+
+    /**
+     * Removes the last level and every element in it.
+     */
+    public void removeLevel(){
+        if (levelCount > 0){
+            size = levelStart[--levelCount];
+
+            if (splatLevel >= levelCount){
+                splatLevel = -1;
+            }
+        }
+    }
+
+    /**
+     * Appends an element to the current level. The caller is responsible for calling
+     * ensureCapacity beforehand.
+     *
+     * @param x         x-value of the element's center
+     * @param y         y-value of the element's center
+     * @param r         radius of the element
+     * @param a         angle of the element's tether to its parent
+     * @param s         child slot of the element, indexing the direction tables
+     * @param p         path of the element, from childPath
+     */
+    public void add(double x, double y, double r, double a, int s, long p){
+        centerX[size]   = x;
+        centerY[size]   = y;
+        radius[size]    = r;
+        angle[size]     = a;
+        level[size]     = levelCount - 1;
+        slot[size]      = s;
+        path[size]      = p;
+        size++;
+    }
+
+    /**
+     * Appends room for a number of elements to the current level, to be filled in with set.
+     * Separate ranges of the room can be filled on different threads at once.
+     *
+     * @param count     number of elements to make room for
+     * @return          index of the first of them
+     */
+    public int reserve(int count){
+        int start = size;
+
+        ensureCapacity(size + count);
+        Arrays.fill(level, size, size + count, levelCount - 1);
+
+        size += count;
+
+        return start;
+    }
+
+    /**
+     * Fills in an element that room was made for with reserve.
+     *
+     * @param index     index of the element
+     * @param x         x-value of the element's center
+     * @param y         y-value of the element's center
+     * @param r         radius of the element
+     * @param a         angle of the element's tether to its parent
+     * @param s         child slot of the element, indexing the direction tables
+     * @param p         path of the element, from childPath
+     */
+    public void set(int index, double x, double y, double r, double a, int s, long p){
+        centerX[index]  = x;
+        centerY[index]  = y;
+        radius[index]   = r;
+        angle[index]    = a;
+        slot[index]     = s;
+        path[index]     = p;
+    }
+
+    /**
+     * Identifies a child by its parent and which of the parent's children it is. The initial
+     * element's path is 0. Paths are well mixed, so they can be hashed into colors directly.
+     *
+     * @param parentPath    path of the parent
+     * @param slot          child slot of the child
+     * @return              path of the child
+     */
+    public static long childPath(long parentPath, int slot){
+        // a bijective mix of the parent's path offset by the slot, so siblings never collide
+        long path = parentPath + ((slot + 1) * 0x9E3779B97F4A7C15L);
+
+        path = (path ^ (path >>> 30)) * 0xBF58476D1CE4E5B9L;
+        path = (path ^ (path >>> 27)) * 0x94D049BB133111EBL;
+
+        return path ^ (path >>> 31);
+    }
+
+    /**
+     * Sets the direction tables shared by every element of the buffer, so renderers can
+     * find tether endpoints without any trigonometry.
+     *
+     * @param slotCos       cosine of the tether angle of each child slot
+     * @param slotSin       sine of the tether angle of each child slot
+     */
+    public void setDirections(double[] slotCos, double[] slotSin){
+        this.slotCos = slotCos;
+        this.slotSin = slotSin;
+    }
+
+    /**
+     * Records elements that were left out of the buffer because they wouldn't be seen.
+     *
+     * @param count     number of elements culled
+     */
+    public void addCulled(long count){
+        this.culledCount += count;
+    }
+
+    /**
+     * Returns the number of elements left out because their subtree was entirely off the canvas.
+     *
+     * @return      Number of culled elements as a long
+     */
+    public long getCulledCount(){
+        return this.culledCount;
+    }
+
+    /**
+     * Marks the last level as a splat level: its elements are too small for their subtrees
+     * to be worth generating, so each one should be drawn as a single splat covering
+     * everything its subtree would have covered.
+     *
+     * @param splatRadius   radius to draw the splats with, covering their whole subtree
+     */
+    public void markSplatLevel(double splatRadius){
+        this.splatLevel     = levelCount - 1;
+        this.splatRadius    = splatRadius;
+    }
+
+    /**
+     * Returns the level whose elements stand in for their whole subtree.
+     *
+     * @return      the splat level, or -1 if every element is drawn as itself
+     */
+    public int getSplatLevel(){
+        return this.splatLevel;
+    }
+
+    /**
+     * Returns the radius the splats are drawn with, covering their whole subtree.
+     *
+     * @return      splat radius in pixels
+     */
+    public double getSplatRadius(){
+        return this.splatRadius;
+    }
+
+    /**
+     * Returns the number of elements in the buffer.
+     *
+     * @return      Number of elements as an int
+     */
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Returns the number of levels that have been started.
+     *
+     * @return      Number of levels as an int
+     */
+    public int getLevelCount(){
+        return this.levelCount;
+    }
+
+    /**
+     * Index of the first element of a level.
+     *
+     * @param level     recursion level, 0 being the initial element
+     * @return          index of the level's first element
+     */
+    public int getLevelStart(int level){
+        return this.levelStart[level];
+    }
+
+    /**
+     * Index one past the last element of a level.
+     *
+     * @param level     recursion level, 0 being the initial element
+     * @return          index one past the level's last element
+     */
+    public int getLevelEnd(int level){
+        return level + 1 < levelCount ? this.levelStart[level + 1] : this.size;
+    }
+
+    //  The backing arrays are exposed directly so renderers can walk them without copying.
+    //  Only the first size() entries are valid.
+
+    /**
+     * Returns the x-values of each element's center.
+     *
+     * @return      the backing array of x-values
+     */
+    public double[] getCenterX(){
+        return this.centerX;
+    }
+
+    /**
+     * Returns the y-values of each element's center.
+     *
+     * @return      the backing array of y-values
+     */
+    public double[] getCenterY(){
+        return this.centerY;
+    }
+
+    /**
+     * Returns the radius of each element.
+     *
+     * @return      the backing array of radii
+     */
+    public double[] getRadius(){
+        return this.radius;
+    }
+
+    /**
+     * Returns the angle of the tether connecting each element to its parent.
+     *
+     * @return      the backing array of tether angles
+     */
+    public double[] getAngle(){
+        return this.angle;
+    }
+
+    /**
+     * Returns the recursion level of each element.
+     *
+     * @return      the backing array of levels
+     */
+    public int[] getLevel(){
+        return this.level;
+    }
+
+    /**
+     * Returns which of its parent's children each element is.
+     *
+     * @return      the backing array of slots
+     */
+    public int[] getSlot(){
+        return this.slot;
+    }
+
+    /**
+     * Returns the hash of the slots leading to each element.
+     *
+     * @return      the backing array of path hashes
+     */
+    public long[] getPath(){
+        return this.path;
+    }
+
+    /**
+     * Returns the cosine of the tether angle of each child slot.
+     *
+     * @return      the direction table of cosines
+     */
+    public double[] getSlotCos(){
+        return this.slotCos;
+    }
+
+    /**
+     * Returns the sine of the tether angle of each child slot.
+     *
+     * @return      the direction table of sines
+     */
+    public double[] getSlotSin(){
+        return this.slotSin;
+    }
+}
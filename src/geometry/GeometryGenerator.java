@@ -0,0 +1,666 @@
+package geometry;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * geometry.GeometryGenerator - Generates the elements of a fractal breadth-first into a
+ *                   FractalGeometry buffer. Each level is expanded from the level above it,
+ *                   so no recursion or per-element objects are involved. Large levels are
+ *                   split into segments that are generated in parallel, each straight into its
+ *                   own range of the buffer.
+ *                   Subtrees that lie entirely outside the viewport are never generated, and
+ *                   subtrees smaller than the level of detail threshold are left as splats.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class GeometryGenerator {
+    /** Upper bound on generated elements - levels that would exceed it are not generated */
+    public static final int MAX_ELEMENTS = 1 << 22;
+    /** Smallest radius splats are drawn with, so that each one covers at least a pixel */
+    private static final double MIN_SPLAT_RADIUS = 0.5;
+    /** Number of elements each parallel segment generates */
+    private static final int SEGMENT_SIZE = 1 << 14;
+
+    /** Pool the segments of large levels are generated in */
+    private final ForkJoinPool pool;
+
+    /** Number of children each element has, as of the last setLayout call */
+    private int childCount;
+    /** Rotation offset of the children in radians, as of the last setLayout call */
+    private double rotationOffset;
+    /** Tether angle of each child slot */
+    private double[] slotAngle;
+    /** Cosine of the tether angle of each child slot */
+    private double[] slotCos;
+    /** Sine of the tether angle of each child slot */
+    private double[] slotSin;
+    /** Left edge of the viewport, relative to the canvas center (y-down) */
+    private double viewMinX;
+    /** Top edge of the viewport, relative to the canvas center (y-down) */
+    private double viewMinY;
+    /** Right edge of the viewport, relative to the canvas center (y-down) */
+    private double viewMaxX;
+    /** Bottom edge of the viewport, relative to the canvas center (y-down) */
+    private double viewMaxY;
+    /** Distance elements reach beyond their radius, from the stroke and anti-aliasing */
+    private double viewMargin;
+    /** Subtrees narrower than this many pixels become splats, 0 to disable */
+    private double lodThreshold;
+    /** Whether or not the last generated fractal was cut short by MAX_ELEMENTS */
+    private boolean truncated;
+
+    // the fractal last generated, kept so that it can be generated a few levels at a time
+    /** Number of fractal levels it has in all */
+    private int recursionDepth;
+    /** Ratio of the child radius to the parent radius */
+    private double ratio;
+    /** Radius of the elements of its deepest generated level */
+    private double levelRadius;
+    /** Distance between the centers of the deepest generated level and their parents */
+    private double levelDistance;
+    /** Next parent to expand into the deepest level, or -1 if that level is finished */
+    private int nextParent;
+    /** Number of elements culled from the deepest level so far, counted once it is finished */
+    private long levelCulled;
+    /** How far each level's subtree reaches around its root */
+    private double[] reach;
+    /** How far each level's subtree reaches around its root, including the tether and view margin */
+    private double[] cullRadius;
+    /** Number of elements in each level's subtree */
+    private long[] subtreeSize;
+    /** Whether or not every level it will have has been generated */
+    private boolean complete;
+
+    /**
+     * Constructs a new generator that generates large levels in the common pool.
+     */
+    public GeometryGenerator(){
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new generator that generates large levels in the given pool.
+     *
+     * @param pool      pool to generate segments in
+     */
+    public GeometryGenerator(ForkJoinPool pool){
+        this.pool       = pool;
+        this.slotAngle  = new double[0];
+        this.slotCos    = new double[0];
+        this.slotSin    = new double[0];
+
+        clearViewport();
+    }
+
+    /**
+     * Sets the inputs of the direction tables, rebuilding them only if they changed.
+     *
+     * @param childCount        number of children each fractal element has
+     * @param rotationOffset    rotation offset of the children in radians
+     */
+    public void setLayout(int childCount, double rotationOffset){
+        if (childCount != this.childCount || rotationOffset != this.rotationOffset
+                || slotAngle.length != childCount){
+            this.childCount     = childCount;
+            this.rotationOffset = rotationOffset;
+
+            // fresh arrays, since buffers generated earlier still hold the old ones
+            slotAngle   = new double[childCount];
+            slotCos     = new double[childCount];
+            slotSin     = new double[childCount];
+
+            for (int child = 0; child < childCount; child++){
+                slotAngle[child]    = (Math.PI / 2) + ((2 * Math.PI * child) / childCount) + rotationOffset;
+                slotCos[child]      = Math.cos(slotAngle[child]);
+                slotSin[child]      = Math.sin(slotAngle[child]);
+            }
+        }
+    }
+
+    /**
+     * Sets the viewport to a canvas centered on the origin. Subtrees that can't reach it
+     * are culled.
+     *
+     * @param width         width of the canvas in pixels
+     * @param height        height of the canvas in pixels
+     * @param strokeWidth   width of the stroke used to draw the elements
+     */
+    public void setViewport(double width, double height, double strokeWidth){
+        setViewport(width / -2, height / -2, width / 2, height / 2, strokeWidth);
+    }
+
+    /**
+     * Sets the viewport to an arbitrary rectangle. Subtrees that can't reach it are culled.
+     *
+     * @param minX          left edge of the viewport, relative to the canvas center
+     * @param minY          top edge of the viewport, relative to the canvas center (y-down)
+     * @param maxX          right edge of the viewport, relative to the canvas center
+     * @param maxY          bottom edge of the viewport, relative to the canvas center (y-down)
+     * @param strokeWidth   width of the stroke used to draw the elements
+     */
+    public void setViewport(double minX, double minY, double maxX, double maxY, double strokeWidth){
+        this.viewMinX   = minX;
+        this.viewMinY   = minY;
+        this.viewMaxX   = maxX;
+        this.viewMaxY   = maxY;
+        // half the stroke pokes out of the shape, plus a pixel for anti-aliasing and rounding
+        this.viewMargin = (strokeWidth / 2) + 1;
+    }
+
+    /**
+     * Returns how far beyond its radius an element can reach, from the stroke of the last
+     * setViewport call and anti-aliasing. Subtrees are culled against the viewport grown by it.
+     *
+     * @return      the margin in pixels
+     */
+    public double getViewMargin(){
+        return this.viewMargin;
+    }
+
+    /**
+     * Removes the viewport so that nothing is culled.
+     */
+    public void clearViewport(){
+        setViewport(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 0);
+    }
+
+    /**
+     * Sets the level of detail threshold. Once the subtrees of a level are narrower than the
+     * threshold, that level is marked as a splat level and nothing below it is generated.
+     *
+     * @param lodThreshold  width in pixels below which subtrees become splats, 0 to disable
+     */
+    public void setLevelOfDetail(double lodThreshold){
+        this.lodThreshold = lodThreshold;
+    }
+
+    /**
+     * Fills the buffer with the elements of a fractal, using the layout of the last
+     * setLayout call, the viewport of the last setViewport call and the threshold of the
+     * last setLevelOfDetail call.
+     *
+     * @param geometry          destination buffer, cleared before generating
+     * @param childRatio        ratio of the child radius to the parent radius as a percentage
+     * @param radius            radius of the initial fractal element, zoom already applied
+     * @param recursionDepth    number of fractal levels to generate
+     * @param originX           x-value of the initial element's center, relative to Cartesian origin
+     * @param originY           y-value of the initial element's center, relative to Cartesian origin
+     */
+    public void generate(FractalGeometry geometry, double childRatio, double radius,
+                         int recursionDepth, double originX, double originY){
+        generate(geometry, childRatio, radius, recursionDepth, originX, originY, recursionDepth);
+    }
+
+    /**
+     * Fills the buffer with the first levels of a fractal, which extend can generate the
+     * rest of. The levels are exactly those that generating every level would produce.
+     *
+     * @param geometry          destination buffer, cleared before generating
+     * @param childRatio        ratio of the child radius to the parent radius as a percentage
+     * @param radius            radius of the initial fractal element, zoom already applied
+     * @param recursionDepth    number of fractal levels the fractal has in all
+     * @param originX           x-value of the initial element's center, relative to Cartesian origin
+     * @param originY           y-value of the initial element's center, relative to Cartesian origin
+     * @param levelLimit        number of levels to generate for now
+     */
+    public void generate(FractalGeometry geometry, double childRatio, double radius, int recursionDepth,
+                         double originX, double originY, int levelLimit){
+        this.recursionDepth = recursionDepth;
+        this.ratio          = childRatio * .01;
+        this.levelRadius    = radius;
+        this.cullRadius     = new double[Math.max(recursionDepth, 1)];
+        this.reach          = new double[cullRadius.length];
+        this.subtreeSize    = new long[cullRadius.length];
+        this.nextParent     = -1;
+        this.truncated      = false;
+        this.complete       = true;
+
+        subtreeBounds(radius, ratio, reach, cullRadius, subtreeSize);
+
+        geometry.clear();
+        geometry.setDirections(slotCos, slotSin);
+
+        // the buffer is y-down, the origin is Cartesian
+        if (isCulled(originX, originY * -1, cullRadius[0])){
+            // the initial element has no tether
+            geometry.addCulled(subtreeSize[0] - 1);
+            return;
+        }
+
+        geometry.beginLevel();
+        geometry.add(originX, originY * -1, radius, 0, 0, 0);
+
+        if (isSplatLevel(0, reach)){
+            geometry.markSplatLevel(Math.max(reach[0], MIN_SPLAT_RADIUS));
+            return;
+        }
+
+        this.complete = recursionDepth <= 1;
+
+        extend(geometry, levelLimit);
+    }
+
+    /**
+     * Generates more levels of the fractal last generated into the buffer, which must not have
+     * been changed since. The layout, viewport and threshold it was generated with must not
+     * have changed either.
+     *
+     * @param geometry      buffer holding the fractal last generated
+     * @param levelLimit    number of levels the buffer should hold once done, at most
+     */
+    public void extend(FractalGeometry geometry, int levelLimit){
+        extend(geometry, levelLimit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Generates more of the fractal last generated into the buffer, expanding at most a given
+     * number of parents so that a large level can be generated a part at a time. The deepest
+     * level may be left partly generated; its children are appended in the same order either
+     * way. A level that turns out to exceed MAX_ELEMENTS is removed, even if part of it was
+     * generated by an earlier call - see getSettledSize.
+     *
+     * @param geometry      buffer holding the fractal last generated, unchanged since
+     * @param levelLimit    number of levels the buffer should hold once done, at most
+     * @param parentLimit   number of parents to expand, at most
+     * @return              number of parents expanded
+     */
+    public int extend(FractalGeometry geometry, int levelLimit, int parentLimit){
+        int levelEnd    = Math.min(levelLimit, recursionDepth);
+        int expanded    = 0;
+
+        while (!complete && parentLimit > 0){
+            if (nextParent < 0){
+                int level = geometry.getLevelCount();
+
+                if (level >= levelEnd){
+                    break;
+                }
+
+                // every element of a level shares the same radius
+                levelDistance   = 2 * levelRadius;
+                levelRadius     *= ratio;
+                levelCulled     = 0;
+                nextParent      = geometry.getLevelStart(level - 1);
+
+                geometry.beginLevel();
+
+                // marked up front, so the part of the level generated so far is drawn as splats too
+                if (isSplatLevel(level, reach)){
+                    geometry.markSplatLevel(Math.max(reach[level], MIN_SPLAT_RADIUS));
+                }
+            }
+
+            int level       = geometry.getLevelCount() - 1;
+            int parentEnd   = geometry.getLevelStart(level);
+            int parentTo    = (int) Math.min(parentEnd, (long) nextParent + parentLimit);
+            long chunkSize  = (long)(parentTo - nextParent) * childCount;
+            long culled     = (chunkSize <= SEGMENT_SIZE || pool.getParallelism() < 2) ?
+                    expand(geometry, nextParent, parentTo, geometry, levelDistance, levelRadius,
+                            cullRadius[level], subtreeSize[level], MAX_ELEMENTS) :
+                    expandInParallel(geometry, nextParent, parentTo, levelDistance, levelRadius,
+                            cullRadius[level], subtreeSize[level]);
+
+            if (culled < 0){
+                geometry.removeLevel();
+                nextParent  = -1;
+                truncated   = true;
+                complete    = true;
+                break;
+            }
+
+            levelCulled += culled;
+            expanded    += parentTo - nextParent;
+            parentLimit -= parentTo - nextParent;
+            nextParent  = parentTo;
+
+            if (nextParent < parentEnd){
+                break;
+            }
+
+            nextParent = -1;
+            geometry.addCulled(levelCulled);
+
+            // every child was culled, so there is nothing left to expand
+            if (geometry.getLevelStart(level) == geometry.size()){
+                geometry.removeLevel();
+                complete = true;
+                break;
+            }
+
+            complete = level == geometry.getSplatLevel() || level == recursionDepth - 1;
+        }
+
+        return expanded;
+    }
+
+    /**
+     * Returns how many elements of the buffer are sure to stay in it. A partly generated
+     * level that could still grow past MAX_ELEMENTS may yet be removed, so until it can't,
+     * none of its elements are counted.
+     *
+     * @param geometry      buffer holding the fractal last generated
+     * @return              number of elements from the start of the buffer that will be kept
+     */
+    public int getSettledSize(FractalGeometry geometry){
+        if (nextParent < 0){
+            return geometry.size();
+        }
+
+        int levelStart      = geometry.getLevelStart(geometry.getLevelCount() - 1);
+        long mostChildren   = (long) (levelStart - nextParent) * childCount;
+
+        return geometry.size() + mostChildren <= MAX_ELEMENTS ? geometry.size() : levelStart;
+    }
+
+    /**
+     * Finds the level that generating a fractal would mark as its splat level, using the
+     * layout of the last setLayout call and the threshold of the last setLevelOfDetail call.
+     * Culling is not taken into account.
+     *
+     * @param childRatio        ratio of the child radius to the parent radius as a percentage
+     * @param radius            radius of the initial fractal element, zoom already applied
+     * @param recursionDepth    number of fractal levels to generate
+     * @return                  the splat level, or -1 if every level would be generated
+     */
+    public int findSplatLevel(double childRatio, double radius, int recursionDepth){
+        double[] cullRadius     = new double[Math.max(recursionDepth, 1)];
+        double[] reach          = new double[cullRadius.length];
+        long[] subtreeSize      = new long[cullRadius.length];
+
+        subtreeBounds(radius, childRatio * .01, reach, cullRadius, subtreeSize);
+
+        for (int level = 0; level < recursionDepth; level++){
+            if (isSplatLevel(level, reach)){
+                return level;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Private helper method to check whether the subtrees of a level are too small to be
+     * worth generating.
+     *
+     * @param level     recursion level, 0 being the initial element
+     * @param reach     how far each level's subtree reaches around its root
+     * @return          true if the level has descendants and its subtrees are below the threshold
+     */
+    private boolean isSplatLevel(int level, double[] reach){
+        return level < reach.length - 1 && (2 * reach[level]) < lodThreshold;
+    }
+
+    /**
+     * Private helper method to find how far each level's subtree can reach, and how many
+     * elements it holds. A subtree reaches at most twice its root's radius plus the reach of
+     * a child's subtree - a geometric series in childRatio. The tether connecting the root
+     * to its parent reaches the parent's edge, so that distance is included as well.
+     *
+     * @param radius            radius of the initial fractal element
+     * @param ratio             ratio of the child radius to the parent radius
+     * @param reach             filled with the reach of each level's subtree around its root
+     * @param cullRadius        filled with the reach used for culling, which includes the tether
+     *                          to the parent and the viewport margin
+     * @param subtreeSize       filled with the number of elements in each level's subtree,
+     *                          counting each element's tether
+     */
+    private void subtreeBounds(double radius, double ratio, double[] reach, double[] cullRadius,
+                               long[] subtreeSize){
+        int depth = cullRadius.length;
+
+        for (int level = depth - 1; level >= 0; level--){
+            double levelRadius = radius * Math.pow(ratio, level);
+
+            if (level == depth - 1){
+                reach[level]        = levelRadius;
+                subtreeSize[level]  = 2;
+            } else {
+                reach[level]        = Math.max(levelRadius, (2 * levelRadius) + reach[level + 1]);
+                subtreeSize[level]  = 2 + (childCount * subtreeSize[level + 1]);
+            }
+
+            double parentRadius = level > 0 ? levelRadius / ratio : 0;
+            cullRadius[level]   = Math.max(reach[level], parentRadius) + viewMargin;
+        }
+    }
+
+    /**
+     * Private helper method to check whether a subtree lies entirely outside the viewport.
+     *
+     * @param x             x-value of the subtree root's center
+     * @param y             y-value of the subtree root's center (y-down)
+     * @param cullRadius    how far the subtree can reach around its root
+     * @return              true if nothing in the subtree can be seen
+     */
+    private boolean isCulled(double x, double y, double cullRadius){
+        return !Culling.discIntersectsRect(x, y, cullRadius, viewMinX, viewMinY, viewMaxX, viewMaxY);
+    }
+
+    /**
+     * Private helper method to generate the visible children of a range of parents into a buffer.
+     *
+     * @param source        buffer holding the parents
+     * @param parentStart   index of the first parent
+     * @param parentEnd     index one past the last parent
+     * @param destination   buffer the children are appended to
+     * @param distance      distance between each parent's center and its children's centers
+     * @param radius        radius of the children
+     * @param cullRadius    how far each child's subtree can reach around the child
+     * @param subtreeSize   number of elements in each child's subtree
+     * @param limit         size the destination may not grow beyond
+     * @return              number of elements culled, or -1 if the limit was reached
+     */
+    private long expand(FractalGeometry source, int parentStart, int parentEnd, FractalGeometry destination,
+                        double distance, double radius, double cullRadius, long subtreeSize, int limit){
+        // parents never move, so these stay valid even if the destination is the source and grows
+        double[] centerX    = source.getCenterX();
+        double[] centerY    = source.getCenterY();
+        long[] path         = source.getPath();
+        long culled         = 0;
+
+        for (int parent = parentStart; parent < parentEnd; parent++){
+            double parentX = centerX[parent];
+            double parentY = centerY[parent];
+
+            destination.ensureCapacity(destination.size() + childCount);
+
+            for (int child = 0; child < childCount; child++){
+                double x = parentX + (distance * slotCos[child]);
+                double y = parentY - (distance * slotSin[child]);
+
+                if (isCulled(x, y, cullRadius)){
+                    culled += subtreeSize;
+                } else if (destination.size() >= limit){
+                    return -1;
+                } else {
+                    destination.add(x, y, radius, slotAngle[child], child,
+                            FractalGeometry.childPath(path[parent], child));
+                }
+            }
+        }
+
+        return culled;
+    }
+
+    /**
+     * Private helper method to split the parents of a level into segments and generate each
+     * segment's children on its own worker. The visible children of every segment are counted
+     * first, so that the level's size is known before anything is stored and each segment can
+     * then write its children straight into its own range of the buffer, in order.
+     *
+     * @param geometry      buffer holding the parents, which the children are appended to
+     * @param parentStart   index of the first parent
+     * @param parentEnd     index one past the last parent
+     * @param distance      distance between each parent's center and its children's centers
+     * @param radius        radius of the children
+     * @param cullRadius    how far each child's subtree can reach around the child
+     * @param subtreeSize   number of elements in each child's subtree
+     * @return              number of elements culled, or -1 if the level would exceed MAX_ELEMENTS
+     */
+    private long expandInParallel(FractalGeometry geometry, int parentStart, int parentEnd,
+                                  double distance, double radius, double cullRadius, long subtreeSize){
+        int parentsPerSegment   = Math.max(1, SEGMENT_SIZE / childCount);
+        int segmentCount        = (parentEnd - parentStart + parentsPerSegment - 1) / parentsPerSegment;
+        int[] segmentStart      = new int[segmentCount];
+
+        forEachSegment(segmentCount, segment -> {
+            int from = parentStart + (segment * parentsPerSegment);
+
+            segmentStart[segment] = countVisible(geometry, from, Math.min(from + parentsPerSegment, parentEnd),
+                    distance, cullRadius);
+        });
+
+        long levelSize = 0;
+
+        for (int segment = 0; segment < segmentCount; segment++){
+            levelSize += segmentStart[segment];
+        }
+
+        if (geometry.size() + levelSize > MAX_ELEMENTS){
+            return -1;
+        }
+
+        // each segment's count becomes where its range starts
+        int next = geometry.reserve((int) levelSize);
+
+        for (int segment = 0; segment < segmentCount; segment++){
+            int count               = segmentStart[segment];
+            segmentStart[segment]   = next;
+            next                    += count;
+        }
+
+        forEachSegment(segmentCount, segment -> {
+            int from = parentStart + (segment * parentsPerSegment);
+
+            expandInto(geometry, from, Math.min(from + parentsPerSegment, parentEnd), segmentStart[segment],
+                    distance, radius, cullRadius);
+        });
+
+        return (((long) (parentEnd - parentStart) * childCount) - levelSize) * subtreeSize;
+    }
+
+    /**
+     * Private helper method to run a task for every segment of a level on the pool, returning
+     * once all of them are done.
+     *
+     * @param segmentCount  number of segments
+     * @param task          given the index of a segment, generates that segment
+     */
+    private void forEachSegment(int segmentCount, IntConsumer task){
+        RecursiveAction[] tasks = new RecursiveAction[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++){
+            int segment = i;
+
+            tasks[i] = new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    task.accept(segment);
+                }
+            };
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Private helper method to count the children of a range of parents that aren't culled.
+     *
+     * @param source        buffer holding the parents
+     * @param parentStart   index of the first parent
+     * @param parentEnd     index one past the last parent
+     * @param distance      distance between each parent's center and its children's centers
+     * @param cullRadius    how far each child's subtree can reach around the child
+     * @return              number of visible children
+     */
+    private int countVisible(FractalGeometry source, int parentStart, int parentEnd, double distance,
+                             double cullRadius){
+        double[] centerX    = source.getCenterX();
+        double[] centerY    = source.getCenterY();
+        int visible         = 0;
+
+        for (int parent = parentStart; parent < parentEnd; parent++){
+            for (int child = 0; child < childCount; child++){
+                if (!isCulled(centerX[parent] + (distance * slotCos[child]),
+                        centerY[parent] - (distance * slotSin[child]), cullRadius)){
+                    visible++;
+                }
+            }
+        }
+
+        return visible;
+    }
+
+    /**
+     * Private helper method to generate the visible children of a range of parents into room
+     * reserved for them in the buffer, exactly as many as countVisible counted.
+     *
+     * @param geometry      buffer holding the parents and the reserved room
+     * @param parentStart   index of the first parent
+     * @param parentEnd     index one past the last parent
+     * @param index         index the first child is stored at
+     * @param distance      distance between each parent's center and its children's centers
+     * @param radius        radius of the children
+     * @param cullRadius    how far each child's subtree can reach around the child
+     */
+    private void expandInto(FractalGeometry geometry, int parentStart, int parentEnd, int index,
+                            double distance, double radius, double cullRadius){
+        double[] centerX    = geometry.getCenterX();
+        double[] centerY    = geometry.getCenterY();
+        long[] path         = geometry.getPath();
+
+        for (int parent = parentStart; parent < parentEnd; parent++){
+            double parentX = centerX[parent];
+            double parentY = centerY[parent];
+
+            for (int child = 0; child < childCount; child++){
+                double x = parentX + (distance * slotCos[child]);
+                double y = parentY - (distance * slotSin[child]);
+
+                if (!isCulled(x, y, cullRadius)){
+                    geometry.set(index++, x, y, radius, slotAngle[child], child,
+                            FractalGeometry.childPath(path[parent], child));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the pool large levels are generated in, for sharing with other work that
+     * splits up a frame.
+     *
+     * @return      the generator's pool
+     */
+    public ForkJoinPool getPool(){
+        return this.pool;
+    }
+
+    /**
+     * Whether or not the last generated fractal stopped short of its recursion depth
+     * because it would have exceeded MAX_ELEMENTS.
+     *
+     * @return      true if levels were left out of the last generated fractal
+     */
+    public boolean isTruncated(){
+        return this.truncated;
+    }
+
+    /**
+     * Whether or not every level of the last generated fractal has been generated, rather
+     * than some being left for extend.
+     *
+     * @return      true if the last generated fractal needs no more levels
+     */
+    public boolean isComplete(){
+        return this.complete;
+    }
+}
@@ -0,0 +1,106 @@
+package geometry;
+
+/**
+ * geometry.GeometryTransform - Maps the coordinates of a generated FractalGeometry to where they
+ *                   would have been generated with a different origin, zoom and rotation. Every
+ *                   child is placed at a fixed multiple of its parent's radius in a direction
+ *                   rotated by the same offset on every level, so moving the origin, zooming
+ *                   and rotating all move the whole fractal rigidly around its initial element.
+ *                   Immutable.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class GeometryTransform {
+    /** Transform that leaves every coordinate where it is */
+    public static final GeometryTransform IDENTITY = new GeometryTransform(0, 0, 0, 0, 1, 0);
+
+    /** x-value of the center of the initial element the geometry was generated with (y-down) */
+    private final double fromX;
+    /** y-value of the center of the initial element the geometry was generated with (y-down) */
+    private final double fromY;
+    /** x-value of the center the initial element is moved to (y-down) */
+    private final double toX;
+    /** y-value of the center the initial element is moved to (y-down) */
+    private final double toY;
+    /** Factor every length is multiplied by */
+    private final double scale;
+    /** Cosine of the rotation, already multiplied by the scale */
+    private final double scaledCos;
+    /** Sine of the rotation, already multiplied by the scale */
+    private final double scaledSin;
+
+    /**
+     * Constructs a new transform.
+     *
+     * @param fromX         x-value of the initial element's center the geometry was generated with
+     * @param fromY         y-value of the initial element's center the geometry was generated with (y-down)
+     * @param toX           x-value of the initial element's center to move it to
+     * @param toY           y-value of the initial element's center to move it to (y-down)
+     * @param scale         factor every length is multiplied by
+     * @param rotation      rotation offset to add, in radians
+     */
+    public GeometryTransform(double fromX, double fromY, double toX, double toY, double scale, double rotation){
+        this.fromX      = fromX;
+        this.fromY      = fromY;
+        this.toX        = toX;
+        this.toY        = toY;
+        this.scale      = scale;
+        this.scaledCos  = scale * Math.cos(rotation);
+        this.scaledSin  = scale * Math.sin(rotation);
+    }
+
+    /**
+     * Maps the x-value of a point.
+     *
+     * @param x     x-value of the point as generated
+     * @param y     y-value of the point as generated (y-down)
+     * @return      x-value of the transformed point
+     */
+    public double mapX(double x, double y){
+        return toX + (scaledCos * (x - fromX)) + (scaledSin * (y - fromY));
+    }
+
+    /**
+     * Maps the y-value of a point. Rotations are counterclockwise on screen, like the rotation
+     * offset, which means clockwise in the y-down coordinates of the buffer.
+     *
+     * @param x     x-value of the point as generated
+     * @param y     y-value of the point as generated (y-down)
+     * @return      y-value of the transformed point (y-down)
+     */
+    public double mapY(double x, double y){
+        return toY - (scaledSin * (x - fromX)) + (scaledCos * (y - fromY));
+    }
+
+    /**
+     * Maps the x-value of a transformed point back to where it was generated.
+     *
+     * @param x     x-value of the transformed point
+     * @param y     y-value of the transformed point (y-down)
+     * @return      x-value of the point as generated
+     */
+    public double inverseX(double x, double y){
+        return fromX + (((scaledCos * (x - toX)) - (scaledSin * (y - toY))) / (scale * scale));
+    }
+
+    /**
+     * Maps the y-value of a transformed point back to where it was generated.
+     *
+     * @param x     x-value of the transformed point
+     * @param y     y-value of the transformed point (y-down)
+     * @return      y-value of the point as generated (y-down)
+     */
+    public double inverseY(double x, double y){
+        return fromY + (((scaledSin * (x - toX)) + (scaledCos * (y - toY))) / (scale * scale));
+    }
+
+    /**
+     * Returns the factor every length is multiplied by.
+     *
+     * @return      the scale
+     */
+    public double getScale(){
+        return this.scale;
+    }
+}
@@ -11,4 +11,15 @@ public interface FractalObserver {
      *  The action performed when this class has been notified of a state change in its subject.
      */
     public void update();
+
+    /**
+     * The action performed when this class has been notified of a state change in its subject,
+     * along with what changed. Observers that only care about some kinds of change can
+     * override this to skip the rest.
+     *
+     * @param changes   bitmask of the FractalSubject *_CHANGED constants that changed
+     */
+    public default void update(int changes){
+        update();
+    }
 }
@@ -1,10 +1,10 @@
 package interfaces;
 
 import java.util.ArrayList;
+import java.util.concurrent.Executor;
 
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
 /**
@@ -17,6 +17,20 @@ import javafx.scene.paint.Color;
  * @version     3/9/2021
  */
 public interface FractalSubject {
+    /** Change mask bit for the shape of the fractal: child count and ratio, initial radius and depth */
+    public static final int SHAPE_CHANGED       = 1;
+    /** Change mask bit for where the fractal is viewed from: origin, zoom and rotation */
+    public static final int VIEW_CHANGED        = 1 << 1;
+    /** Change mask bit for how elements are drawn: stroke width, fill, tethers and level of detail */
+    public static final int STYLE_CHANGED       = 1 << 2;
+    /** Change mask bit for the element colors: foreground, decays, final opacity and random colors */
+    public static final int COLOR_CHANGED       = 1 << 3;
+    /** Change mask bit for the background color */
+    public static final int BACKGROUND_CHANGED  = 1 << 4;
+    /** Change mask with every bit set */
+    public static final int ALL_CHANGED         = SHAPE_CHANGED | VIEW_CHANGED | STYLE_CHANGED
+            | COLOR_CHANGED | BACKGROUND_CHANGED;
+
     /**
      * Attaches a new observer.
      *
@@ -32,10 +46,20 @@ public interface FractalSubject {
     public void detach(FractalObserver observer);
 
     /**
-     * Notifies all registered observers of a state change.
+     * Notifies all registered observers of the state changes made since the last notification,
+     * if there were any. Calls made before the notifier gets around to delivering are batched
+     * into a single notification carrying every change.
      */
     public void notifyObservers();
 
+    /**
+     * Sets how notifications are delivered. By default observers are notified immediately; a
+     * notifier that runs its tasks once per frame limits notifications to one per frame.
+     *
+     * @param notifier  runs the delivery of a batch of changes
+     */
+    public void setNotifier(Executor notifier);
+
     /**
      * Modifies the state of the properties that the fractal is generated from.
      *
@@ -65,20 +89,6 @@ public interface FractalSubject {
      */
     public ArrayList<FractalElement> getData();
 
-    /**
-     * Renders the fractal with the current settings directly to the provided GraphicsContext.
-     *
-     * @param gc    The GraphicsContext object of the output Canvas
-     */
-    public void renderFractal(GraphicsContext gc);
-
-    /**
-     * Returns the number of drawn elements from the previous renderFractal call
-     *
-     * @return      Number of elements drawn as an integer
-     */
-    public int getDrawCount();
-
     /**
      * Gets the current origin.
      *
@@ -138,6 +148,36 @@ public interface FractalSubject {
      */
     public void setZoomScale(double zoom);
 
+    /**
+     * Returns the level of detail threshold
+     *
+     * @return      Width in pixels below which subtrees are drawn as splats
+     */
+    public double getLodThreshold();
+
+    /**
+     * Sets the level of detail threshold. Subtrees narrower than it are drawn as a single
+     * splat instead of being generated.
+     *
+     * @param lodThreshold  Width in pixels below which subtrees are drawn as splats, 0 to disable
+     */
+    public void setLodThreshold(double lodThreshold);
+
+    /**
+     * Returns the seed of the random colors. Each element's random color only depends on the
+     * seed and the element's place in the fractal.
+     *
+     * @return      seed of the random colors
+     */
+    public long getColorSeed();
+
+    /**
+     * Sets the seed of the random colors, picking a different set of them.
+     *
+     * @param colorSeed     New seed of the random colors
+     */
+    public void setColorSeed(long colorSeed);
+
     public int getChildCount();
     public double getChildRatio();
     public double getInitialRadius();
@@ -146,6 +186,7 @@ public interface FractalSubject {
     public double getStrokeWidth();
     public double getFinalOpacity();
     public boolean getOpacityDecay();
+    public boolean getColorDecay();
     public boolean getFillElements();
     public boolean getRandomColors();
     public boolean getHideTethers();
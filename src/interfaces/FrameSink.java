@@ -0,0 +1,22 @@
+package interfaces;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * interfaces.FrameSink - A destination for the frames of an animation, such as a sequence of
+ *                  image files, an animated image or another program. Frames arrive one at a
+ *                  time in playback order, all of the same size.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public interface FrameSink extends Closeable {
+    /**
+     * Writes the next frame.
+     *
+     * @param pixels        the frame's pixels as premultiplied ARGB, row by row
+     * @throws IOException  if the frame can't be written
+     */
+    public void writeFrame(int[] pixels) throws IOException;
+}
@@ -0,0 +1,22 @@
+package interfaces;
+
+/**
+ * interfaces.ModulatorClock - The time that modulators animate against. Modulators only ever
+ *                  look at the time through this, so the same animation can follow the wall
+ *                  clock on screen or be stepped a frame at a time, however fast or slow each
+ *                  frame is to render.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public interface ModulatorClock {
+    /** Time from the wall clock */
+    public static final ModulatorClock SYSTEM = System::nanoTime;
+
+    /**
+     * Returns the current time. Only the difference between two times means anything.
+     *
+     * @return      current time in nanoseconds
+     */
+    public long nanoTime();
+}
@@ -0,0 +1,203 @@
+package modulators;
+
+import interfaces.ModulatorClock;
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * modulators.AnimationClock - A single AnimationTimer shared by every running modulator. Each pulse
+ *                   ticks all of them, letting them apply their changes to the GUI, and then
+ *                   calls back once so the fractal is rendered a single time however many
+ *                   modulators are running. Other one-off work can be deferred to the end of
+ *                   the next pulse, which is how observer notifications are held to one per
+ *                   frame.
+ *
+ *                   Given a ModulatorClock such as a VirtualClock instead, no timer runs:
+ *                   whatever advances that time calls step to pulse and get the frame back, so
+ *                   modulators can be stepped deterministically faster or slower than real
+ *                   time.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class AnimationClock {
+    /** Pulses the clock on every JavaFX frame, or null when the clock is stepped */
+    private final AnimationTimer timer;
+    /** Time the modulators animate against */
+    private final ModulatorClock time;
+    /** Modulators ticked on every pulse */
+    private final ArrayList<Modulator> modulators;
+    /** Tasks to run once at the end of the next pulse */
+    private final ArrayList<Runnable> pulseTasks;
+    /** Called once at the end of every pulse in which a modulator changed something */
+    private final Runnable onPulse;
+    /** Whether or not the modulators are being ticked right now */
+    private boolean ticking;
+
+    /**
+     * Constructs a new clock.
+     *
+     * @param onPulse       called once at the end of every pulse in which a modulator
+     *                      changed something, to render the changes
+     */
+    public AnimationClock(Runnable onPulse){
+        this.onPulse    = onPulse;
+        this.time       = ModulatorClock.SYSTEM;
+        this.modulators = new ArrayList<>();
+        this.pulseTasks = new ArrayList<>();
+        this.timer      = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+    }
+
+    /**
+     * Constructs a new clock that only pulses when stepped.
+     *
+     * @param onPulse       called once at the end of every step in which a modulator
+     *                      changed something, to render the changes
+     * @param time          time the modulators animate against, advanced by whoever steps
+     *                      the clock
+     */
+    public AnimationClock(Runnable onPulse, ModulatorClock time){
+        this.onPulse    = onPulse;
+        this.time       = time;
+        this.modulators = new ArrayList<>();
+        this.pulseTasks = new ArrayList<>();
+        this.timer      = null;
+    }
+
+    /**
+     * Pulses once at the current time, ticking every modulator whose next frame is due, and
+     * returns the frame the modulators have left behind. Steps shorter than a frame at
+     * Modulator.FPS_CAP tick nothing, just like pulses.
+     *
+     * @param frame     reads the frame once the modulators have been ticked
+     * @param <T>       type of the frame
+     * @return          the frame at the current time
+     */
+    public <T> T step(Supplier<T> frame){
+        if (timer != null){
+            throw new IllegalStateException("Only clocks without a timer are stepped");
+        }
+
+        pulse(time.nanoTime());
+
+        return frame.get();
+    }
+
+    /**
+     * Returns the current time that modulators animate against.
+     *
+     * @return      current time in nanoseconds
+     */
+    public long nanoTime(){
+        return time.nanoTime();
+    }
+
+    /**
+     * Whether or not the clock is in the middle of ticking its modulators. Changes made to the
+     * GUI while it is don't need to be rendered on their own, since the clock renders once
+     * they are all done.
+     *
+     * @return      true while modulators are being ticked
+     */
+    public boolean isTicking(){
+        return this.ticking;
+    }
+
+    /**
+     * Runs a task once at the end of the next pulse, after the modulators have been ticked.
+     * Tasks handed over while the modulators are ticking run at the end of the current pulse.
+     *
+     * @param task      the task to run
+     */
+    public void runOnPulse(Runnable task){
+        pulseTasks.add(task);
+        startTimer();
+    }
+
+    /**
+     * Starts ticking a modulator on every pulse, starting the clock if it was idle.
+     *
+     * @param modulator     the modulator to tick
+     */
+    void add(Modulator modulator){
+        if (!modulators.contains(modulator)){
+            modulators.add(modulator);
+        }
+
+        startTimer();
+    }
+
+    /**
+     * Stops ticking a modulator, stopping the clock once no modulators are left.
+     *
+     * @param modulator     the modulator to stop ticking
+     */
+    void remove(Modulator modulator){
+        modulators.remove(modulator);
+
+        if (modulators.isEmpty() && pulseTasks.isEmpty()){
+            stopTimer();
+        }
+    }
+
+    /**
+     * Private helper method to start the timer, if the clock has one.
+     */
+    private void startTimer(){
+        if (timer != null){
+            timer.start();
+        }
+    }
+
+    /**
+     * Private helper method to stop the timer, if the clock has one.
+     */
+    private void stopTimer(){
+        if (timer != null){
+            timer.stop();
+        }
+    }
+
+    /**
+     * Private helper method to tick every modulator and render their changes once.
+     *
+     * @param now       current time in nanoseconds, passed from the AnimationTimer or step
+     */
+    private void pulse(long now){
+        boolean changed = false;
+
+        ticking = true;
+
+        try {
+            // copied, since modulators that finish stopping remove themselves
+            for (Modulator modulator : modulators.toArray(new Modulator[0])){
+                changed |= modulator.pulse(now);
+            }
+        } finally {
+            ticking = false;
+        }
+
+        if (changed){
+            onPulse.run();
+        }
+
+        // copied, since tasks may hand over more tasks for the next pulse
+        Runnable[] tasks = pulseTasks.toArray(new Runnable[0]);
+        pulseTasks.clear();
+
+        for (Runnable task : tasks){
+            task.run();
+        }
+
+        if (modulators.isEmpty() && pulseTasks.isEmpty()){
+            stopTimer();
+        }
+    }
+}
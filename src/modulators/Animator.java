@@ -0,0 +1,71 @@
+package modulators;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * modulators.Animator - A modulator that hands the time since it started to a function on every
+ *                   tick, for animating settings that no GUI control holds, such as those of a
+ *                   headless export. Driven by an AnimationClock with a VirtualClock, every
+ *                   step of virtual time is one tick, so the function sees exactly the time of
+ *                   each frame at any frame rate.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class Animator extends Modulator {
+    /** Applies the animation at a time in seconds since the animator started */
+    private final DoubleConsumer animation;
+
+    /**
+     * Constructs a new animator without starting it.
+     *
+     * @param clock         the clock that ticks the animator
+     * @param animation     applies the animation at a time in seconds since it started
+     */
+    public Animator(AnimationClock clock, DoubleConsumer animation){
+        super(clock);
+        this.animation = animation;
+    }
+
+    /**
+     * Starts the animator, applying the animation at time 0 right away so that whatever it
+     * animates starts from its first frame rather than where it was left.
+     */
+    @Override
+    public void start(){
+        if (!running){
+            super.start();
+            animation.accept(0);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param now       Current time in nanoseconds, passed from the clock
+     * @return          true, since the animation changes something every frame
+     */
+    @Override
+    protected boolean tick(long now){
+        animation.accept((now - startTime) / 1000000000.0);
+        return true;
+    }
+
+    /**
+     * Ticks whenever time has moved at all, rather than at most FPS_CAP times a second, since
+     * exports may be stepped at a higher frame rate than the screen is.
+     *
+     * @param now       Current time in nanoseconds, passed from the clock
+     * @return          true if time has moved since the last tick
+     */
+    @Override
+    protected boolean usableFrame(long now){
+        if (now != lastFrame){
+            lastFrame = now;
+            frameCount++;
+
+            return true;
+        }
+
+        return false;
+    }
+}
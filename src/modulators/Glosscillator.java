@@ -1,6 +1,5 @@
 package modulators;
 
-import javafx.animation.AnimationTimer;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.control.Spinner;
@@ -34,11 +33,15 @@ public class Glosscillator extends Modulator {
      * Constructs a new Glosscilator object.
      *
      * @param target        Reference to the spinner UI element
+     * @param clock         the clock shared by all modulators
      * @param amplitude     the magnitude of change in each direction
      * @param frequency     speed of the animation
      * @param autostart     whether or not to autostart animation
      */
-    public Glosscillator(Spinner<Double> target, double amplitude, double frequency, boolean autostart){
+    public Glosscillator(Spinner<Double> target, AnimationClock clock, double amplitude, double frequency,
+                         boolean autostart){
+        super(clock);
+
         DoubleSpinnerValueFactory valueFactory = (DoubleSpinnerValueFactory) target.getValueFactory();
 
         this.target     = target;
@@ -49,26 +52,6 @@ public class Glosscillator extends Modulator {
         this.frequency  = frequency;
         this.running    = false;
 
-        this.timer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-
-                if (usableFrame(now)) {
-                    glosscillate(now);
-                }
-
-                if (stopRequested){
-                    // this seems to miss the value and not stop if I get more precise
-                    if (Math.abs(target.getValue() - baseline) < 0.1 ){
-                        target.getValueFactory().setValue(baseline);
-                        stopRequested = false;
-                        running = false;
-                        this.stop();
-                    }
-                }
-            }
-        };
-
         this.newBaselineListener = (obs, old, newValue) -> {
             if (!this.isRunning()) {
                 this.baseline = newValue;
@@ -89,11 +72,12 @@ public class Glosscillator extends Modulator {
      * Constructs a new modulators.Glosscillator without starting it.
      *
      * @param target        Reference to the spinner UI element
+     * @param clock         the clock shared by all modulators
      * @param amplitude     the magnitude of change in each direction
      * @param frequency     speed of the animation
      */
-    public Glosscillator(Spinner<Double> target, double amplitude, double frequency){
-        this(target, amplitude, frequency, false);
+    public Glosscillator(Spinner<Double> target, AnimationClock clock, double amplitude, double frequency){
+        this(target, clock, amplitude, frequency, false);
     }
 
     /**
@@ -101,29 +85,74 @@ public class Glosscillator extends Modulator {
      * modulated.
      *
      * @param target        Reference to the spinner UI element
+     * @param clock         the clock shared by all modulators
      */
-    public Glosscillator(Spinner<Double> target) {
-        this(target, 0.0, 0.0);
+    public Glosscillator(Spinner<Double> target, AnimationClock clock) {
+        this(target, clock, 0.0, 0.0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param now       Current time in nanoseconds, passed from the clock
+     * @return          true, since the target spinner changes every frame
+     */
+    @Override
+    protected boolean tick(long now){
+        glosscillate(now);
+
+        if (stopRequested){
+            // this seems to miss the value and not stop if I get more precise
+            if (Math.abs(target.getValue() - baseline) < 0.1 ){
+                target.getValueFactory().setValue(baseline);
+                stopRequested = false;
+                running = false;
+                clock.remove(this);
+            }
+        }
+
+        return true;
     }
 
     /**
      * Calculates the current value of the target based on the parameters. Called
-     * by the handle() method of AnimationTimer.
+     * by tick() on every frame.
      *
-     * @param now       Current time in nanoseconds, passed from the AnimationTimer
+     * @param now       Current time in nanoseconds, passed from the clock
      */
     private void glosscillate(long now){
-        // what do I end up doing with this? I need to get this to a value that can be safely
-        // used as input for sin
-        double elapsedTime = (now - startTime)/1000000000.0;
+        // snapped to the frame grid, so each period renders the same frames as the last
+        double elapsedTime = elapsedSeconds(now);
 
+        target.getValueFactory().setValue(valueAt(elapsedTime));
+    }
+
+    /**
+     * Calculates the value of the target a given time after the glosscillator starts, without
+     * changing anything. Repeats every Modulator.PERIOD seconds.
+     *
+     * @param elapsedTime   elapsed time in seconds
+     * @return              the value of the target at that time
+     */
+    public double valueAt(double elapsedTime){
+        return oscillate(elapsedTime, amplitude, baseline, targetMin, targetMax);
+    }
 
+    /**
+     * Calculates the value a glosscillator gives a target a given time after it starts, for
+     * modulating values that aren't held by a Spinner.
+     *
+     * @param elapsedTime   elapsed time in seconds
+     * @param amplitude     the magnitude of change in each direction
+     * @param baseline      the target's base value
+     * @param min           the target's min value
+     * @param max           the target's max value
+     * @return              the value of the target at that time
+     */
+    public static double oscillate(double elapsedTime, double amplitude, double baseline, double min, double max){
         double newValue = (Math.sin(elapsedTime) * amplitude) + baseline;
 
         // check if it is within bounds
-        newValue = newValue > targetMax ? targetMax : Math.max(targetMin, newValue);
-
-        target.getValueFactory().setValue(newValue);
+        return newValue > max ? max : Math.max(min, newValue);
     }
 
     /**
@@ -69,9 +69,27 @@ public class GlosscillatorUI extends VBox{
         });
     }
 
-    public GlosscillatorUI(Spinner<Double> glosscillatorTarget, String label,
+    public GlosscillatorUI(Spinner<Double> glosscillatorTarget, AnimationClock clock, String label,
                            ChoiceBox<String> parentChoiceBox) {
-        this(new Glosscillator(glosscillatorTarget), label, parentChoiceBox);
+        this(new Glosscillator(glosscillatorTarget, clock), label, parentChoiceBox);
+    }
+
+    /**
+     * Returns the glosscillator this controls.
+     *
+     * @return      the controlled Glosscillator
+     */
+    public Glosscillator getGlosscillator(){
+        return this.glosscillator;
+    }
+
+    /**
+     * Returns the name the glosscillator is listed under.
+     *
+     * @return      name of the glosscillator
+     */
+    public String getGlosscillatorName(){
+        return this.glosscillatorName;
     }
 
     private void updateLabel(){
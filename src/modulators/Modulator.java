@@ -1,7 +1,5 @@
 package modulators;
 
-import javafx.animation.AnimationTimer;
-
 /**
  * An abstract class that is the basis for modulator classes.
  */
@@ -16,8 +14,8 @@ public abstract class Modulator {
      */
 
 
-    /** The AnimationTimer that handles this modulator */
-    protected AnimationTimer timer;
+    /** The clock that ticks this modulator while it runs */
+    protected final AnimationClock clock;
     /** Whether or not this modulator is currently running */
     protected boolean running;
     /** Whether or not a stop action has been requested */
@@ -27,10 +25,43 @@ public abstract class Modulator {
 
 
     public static final int FPS_CAP = 60;
+    /** Every modulator is driven by sin(elapsed seconds), so they all repeat after this many seconds */
+    public static final double PERIOD = 2 * Math.PI;
+    /** Frames at FPS_CAP in one period, the same number that a BakedLoop bakes */
+    public static final int FRAMES_PER_PERIOD = (int) Math.round(PERIOD * FPS_CAP);
 
     protected int frameCount;
     protected long lastFrame;
 
+    /**
+     * Constructs a modulator that is ticked by the given clock.
+     *
+     * @param clock     the clock shared by all modulators
+     */
+    protected Modulator(AnimationClock clock){
+        this.clock = clock;
+    }
+
+    /**
+     * Applies this modulator's change for the current frame. Called by the clock at most
+     * FPS_CAP times a second while the modulator is running.
+     *
+     * @param now       Current time in nanoseconds, passed from the clock
+     * @return          whether or not anything was changed that needs to be rendered
+     */
+    protected abstract boolean tick(long now);
+
+    /**
+     * Ticks this modulator if enough time has passed since its last frame. Called by the
+     * clock on every pulse.
+     *
+     * @param now       Current time in nanoseconds, passed from the clock
+     * @return          whether or not anything was changed that needs to be rendered
+     */
+    boolean pulse(long now){
+        return usableFrame(now) && tick(now);
+    }
+
     protected boolean usableFrame(long now){
         if ((now - lastFrame) >= (1000000000 / FPS_CAP)){
             lastFrame = now;
@@ -42,15 +73,32 @@ public abstract class Modulator {
         return false;
     }
 
+    /**
+     * Returns the time since this modulator started, snapped down to the start of a frame at
+     * FPS_CAP and wrapped every FRAMES_PER_PERIOD frames, just as BakedLoop.frameAt picks a
+     * frame. However unevenly the clock pulses, every period then passes through exactly the
+     * same times, so the frames rendered in one period are found in the FrameCache in the
+     * next.
+     *
+     * @param now       Current time in nanoseconds, passed from the clock
+     * @return          elapsed time in seconds, on the frame grid
+     */
+    protected double elapsedSeconds(long now){
+        long frame = (now - startTime) * FPS_CAP / 1000000000L;
+
+        return (double) (frame % FRAMES_PER_PERIOD) / FPS_CAP;
+    }
+
     /**
      * Starts a stopped animation.
      */
     public void start(){
         if (!running){
-            startTime   = System.nanoTime();
+            startTime   = clock.nanoTime();
             lastFrame   = startTime;
+            frameCount  = 0;
             running     = true;
-            timer.start();
+            clock.add(this);
         }
     }
 
@@ -65,7 +113,7 @@ public abstract class Modulator {
                 this.stopRequested = true;
             } else if (running) {
                 running = false;
-                timer.stop();
+                clock.remove(this);
             }
         }
     }
@@ -83,7 +131,7 @@ public abstract class Modulator {
     public void kill(){
         this.stopRequested = false;
         this.running = false;
-        timer.stop();
+        clock.remove(this);
     }
 
     /**
@@ -97,6 +145,16 @@ public abstract class Modulator {
         }
     }
 
+    /**
+     * Returns the rate this modulator has actually been updating at since it was started,
+     * to compare against FPS_CAP.
+     *
+     * @return  updates per second, or 0 if it hasn't updated yet
+     */
+    public double getFrameRate(){
+        return lastFrame > startTime ? frameCount / ((lastFrame - startTime) / 1000000000.0) : 0;
+    }
+
     /**
      * Whether or not the modulator is currently running
      *
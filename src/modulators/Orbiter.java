@@ -1,7 +1,6 @@
 package modulators;
 
 import interfaces.FractalSubject;
-import javafx.animation.AnimationTimer;
 import javafx.geometry.Point2D;
 
 /**
@@ -11,18 +10,16 @@ public class Orbiter extends Modulator {
     private Point2D offset;
     private final FractalSubject subject;
 
-    public Orbiter(FractalSubject subject){
+    public Orbiter(FractalSubject subject, AnimationClock clock){
+        super(clock);
         this.subject    = subject;
         this.offset     = subject.getOrigin();
+    }
 
-        this.timer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (usableFrame(now)){
-                    orbit((now - startTime)/1000000000.0);
-                }
-            }
-        };
+    @Override
+    protected boolean tick(long now){
+        orbit(elapsedSeconds(now));
+        return true;
     }
 
     public double getX(){
@@ -49,8 +46,9 @@ public class Orbiter extends Modulator {
      */
     public void orbit(double elapsedTime){
         // dont think this does what I want it to, but whatever
-        double xOffset = (Math.sin(elapsedTime) * 50) - subject.getOrigin().getX();
-        double yOffset = (Math.sin(elapsedTime) * -37) - subject.getOrigin().getY();
+        Point2D origin = originAt(elapsedTime);
+        double xOffset = origin.getX() - subject.getOrigin().getX();
+        double yOffset = origin.getY() - subject.getOrigin().getY();
 
         offset = new Point2D(xOffset, yOffset);
 
@@ -58,7 +56,18 @@ public class Orbiter extends Modulator {
                 .concat(Double.toString(yOffset)));
 
 
+        // rendered by the clock once every modulator has ticked
         subject.setOriginOffset(xOffset, yOffset);
-        subject.notifyObservers();
+    }
+
+    /**
+     * Calculates where the origin is a given time after the orbiter starts, without changing
+     * anything. Repeats every Modulator.PERIOD seconds.
+     *
+     * @param elapsedTime   elapsed time in seconds
+     * @return              the origin at that time
+     */
+    public static Point2D originAt(double elapsedTime){
+        return new Point2D(Math.sin(elapsedTime) * 50, Math.sin(elapsedTime) * -37);
     }
 }
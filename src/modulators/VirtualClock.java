@@ -0,0 +1,52 @@
+package modulators;
+
+import interfaces.ModulatorClock;
+
+/**
+ * modulators.VirtualClock - A clock whose time only moves when it is told to. Driving an
+ *                   AnimationClock with one makes every modulator give the same values for the
+ *                   same steps, on any machine and at any rendering speed.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class VirtualClock implements ModulatorClock {
+    /** Current time in nanoseconds */
+    private long now;
+
+    /**
+     * Constructs a new clock starting at time 0.
+     */
+    public VirtualClock(){
+        this.now = 0;
+    }
+
+    @Override
+    public long nanoTime(){
+        return this.now;
+    }
+
+    /**
+     * Moves time forward.
+     *
+     * @param nanos     nanoseconds to move forward by
+     */
+    public void advance(long nanos){
+        if (nanos < 0){
+            throw new IllegalArgumentException("Time can't move backwards");
+        }
+
+        this.now += nanos;
+    }
+
+    /**
+     * Moves time forward to the start of a frame. Frames are counted from time 0, so stepping
+     * through them never accumulates rounding error.
+     *
+     * @param frame         index of the frame
+     * @param frameRate     frames per second
+     */
+    public void advanceToFrame(long frame, double frameRate){
+        advance(Math.max(0, Math.round(frame * 1_000_000_000.0 / frameRate) - now));
+    }
+}
@@ -0,0 +1,291 @@
+package rendering;
+
+import geometry.GeometryGenerator;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * rendering.BakedLoop - A looping animation rendered ahead of time. Every frame of one period
+ *                   is rendered on a pool of threads and kept deflated in memory, so playing
+ *                   the loop back only costs inflating one frame at a time however heavy the
+ *                   settings were. Loops can be written to disk and read back, so they only
+ *                   have to be baked once. Frames are read from one thread at a time.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class BakedLoop {
+    /** Frames render sequentially, since the frames themselves already keep every core busy */
+    private static final ForkJoinPool SEQUENTIAL = new ForkJoinPool(1);
+    /** Marks the start of a baked loop file */
+    private static final int MAGIC = 0x47444C50;
+
+    /** Width of each frame in pixels */
+    private final int width;
+    /** Height of each frame in pixels */
+    private final int height;
+    /** Frames per second the loop plays at */
+    private final int frameRate;
+    /** Deflated pixels of each frame as premultiplied ARGB, row by row */
+    private final byte[][] frames;
+    /** Reused to inflate one frame at a time */
+    private final Inflater inflater;
+    /** Reused to hold the inflated pixels of a frame */
+    private final ByteBuffer frameBytes;
+
+    /**
+     * Private helper constructor to wrap frames that are already deflated.
+     *
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     * @param frameRate     frames per second the loop plays at
+     * @param frames        deflated pixels of each frame
+     */
+    private BakedLoop(int width, int height, int frameRate, byte[][] frames){
+        this.width      = width;
+        this.height     = height;
+        this.frameRate  = frameRate;
+        this.frames     = frames;
+        this.inflater   = new Inflater();
+        this.frameBytes = ByteBuffer.allocate(width * height * 4);
+    }
+
+    /**
+     * Renders every frame of a loop.
+     *
+     * @param snapshots     settings of each frame, in playback order
+     * @param width         width of each frame in pixels
+     * @param height        height of each frame in pixels
+     * @param frameRate     frames per second the loop plays at
+     * @param threadCount   number of frames rendered at once
+     * @return              the baked loop
+     * @throws IOException  if a frame failed to render or the bake was interrupted
+     */
+    public static BakedLoop bake(List<FractalSnapshot> snapshots, int width, int height, int frameRate,
+                                 int threadCount) throws IOException {
+        if (snapshots.isEmpty() || width < 1 || height < 1 || frameRate < 1 || threadCount < 1){
+            throw new IllegalArgumentException("A loop needs frames, a size, a frame rate and a thread");
+        }
+
+        // renderer, frame image, byte buffer and deflater of each worker thread
+        ThreadLocal<RegionRenderer> renderers   = ThreadLocal.withInitial(() ->
+                new RegionRenderer(new GeometryGenerator(SEQUENTIAL)));
+        ThreadLocal<BufferedImage> images       = ThreadLocal.withInitial(() ->
+                new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE));
+        ThreadLocal<ByteBuffer> pixelBytes      = ThreadLocal.withInitial(() -> ByteBuffer.allocate(width * height * 4));
+        ThreadLocal<Deflater> deflaters         = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+        ExecutorService executor                = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "GlossDrop Bake");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<byte[]>> rendered = new ArrayList<>();
+
+            for (FractalSnapshot snapshot : snapshots){
+                rendered.add(executor.submit(() -> {
+                    BufferedImage image = images.get();
+
+                    renderers.get().render(snapshot, width, height, 0, 0, image);
+
+                    return deflate(((DataBufferInt) image.getRaster().getDataBuffer()).getData(),
+                            pixelBytes.get(), deflaters.get());
+                }));
+            }
+
+            byte[][] frames = new byte[rendered.size()][];
+
+            for (int i = 0; i < frames.length; i++){
+                frames[i] = rendered.get(i).get();
+            }
+
+            return new BakedLoop(width, height, frameRate, frames);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while baking the loop", e);
+        } catch (ExecutionException e){
+            throw new IOException("A frame failed to render", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads a loop written by write.
+     *
+     * @param file          file to read
+     * @return              the loop
+     * @throws IOException  if the file can't be read or isn't a baked loop
+     */
+    public static BakedLoop read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC){
+                throw new IOException("Not a baked loop: ".concat(file.toString()));
+            }
+
+            int width       = in.readInt();
+            int height      = in.readInt();
+            int frameRate   = in.readInt();
+            byte[][] frames = new byte[in.readInt()][];
+
+            for (int i = 0; i < frames.length; i++){
+                frames[i] = new byte[in.readInt()];
+                in.readFully(frames[i]);
+            }
+
+            return new BakedLoop(width, height, frameRate, frames);
+        }
+    }
+
+    /**
+     * Writes the loop to a file, still deflated.
+     *
+     * @param file          file to write
+     * @throws IOException  if the file can't be written
+     */
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(frameRate);
+            out.writeInt(frames.length);
+
+            for (byte[] frame : frames){
+                out.writeInt(frame.length);
+                out.write(frame);
+            }
+        }
+    }
+
+    /**
+     * Inflates a frame.
+     *
+     * @param index                 index of the frame
+     * @param pixels                filled with the frame's pixels as premultiplied ARGB, at least
+     *                              width * height long
+     * @throws DataFormatException  if the frame's data is corrupt
+     */
+    public void readFrame(int index, int[] pixels) throws DataFormatException {
+        inflater.reset();
+        inflater.setInput(frames[index]);
+        frameBytes.clear();
+
+        while (frameBytes.hasRemaining() && !inflater.finished()){
+            if (inflater.inflate(frameBytes) == 0 && inflater.needsInput()){
+                throw new DataFormatException("Frame " + index + " is truncated");
+            }
+        }
+
+        frameBytes.flip();
+        frameBytes.asIntBuffer().get(pixels, 0, width * height);
+    }
+
+    /**
+     * Returns the frame that is showing a given time after the loop starts playing.
+     *
+     * @param elapsedNanos  time since the loop started playing in nanoseconds
+     * @return              index of the frame
+     */
+    public int frameAt(long elapsedNanos){
+        return (int) ((elapsedNanos * frameRate / 1_000_000_000L) % frames.length);
+    }
+
+    /**
+     * Returns the width of each frame.
+     *
+     * @return      width in pixels
+     */
+    public int getWidth(){
+        return this.width;
+    }
+
+    /**
+     * Returns the height of each frame.
+     *
+     * @return      height in pixels
+     */
+    public int getHeight(){
+        return this.height;
+    }
+
+    /**
+     * Returns the frame rate the loop plays at.
+     *
+     * @return      frames per second
+     */
+    public int getFrameRate(){
+        return this.frameRate;
+    }
+
+    /**
+     * Returns the number of frames in one pass of the loop.
+     *
+     * @return      Number of frames as an int
+     */
+    public int getFrameCount(){
+        return frames.length;
+    }
+
+    /**
+     * Returns how much memory the deflated frames take up.
+     *
+     * @return      size of every frame in bytes
+     */
+    public long getCompressedBytes(){
+        long bytes = 0;
+
+        for (byte[] frame : frames){
+            bytes += frame.length;
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Private helper method to deflate the pixels of a frame.
+     *
+     * @param pixels        pixels of the frame
+     * @param bytes         scratch space for the pixels as bytes, 4 bytes per pixel
+     * @param deflater      deflater to reuse
+     * @return              the deflated pixels
+     */
+    private static byte[] deflate(int[] pixels, ByteBuffer bytes, Deflater deflater){
+        ByteArrayOutputStream out   = new ByteArrayOutputStream();
+        byte[] chunk                = new byte[1 << 16];
+
+        bytes.clear();
+        bytes.asIntBuffer().put(pixels);
+
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+
+        while (!deflater.finished()){
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+
+        return out.toByteArray();
+    }
+}
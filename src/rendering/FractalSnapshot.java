@@ -0,0 +1,386 @@
+package rendering;
+
+import interfaces.FractalSubject;
+import javafx.scene.paint.Color;
+
+/**
+ * rendering.FractalSnapshot - An immutable copy of the settings of a FractalSubject, taken on the
+ *                   JavaFX Application Thread so a frame can be rendered from it on any other
+ *                   thread while the subject keeps changing.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class FractalSnapshot {
+    /** Number of children each element has */
+    private final int childCount;
+    /** Ratio of a child's radius to its parent's, in percent */
+    private final double childRatio;
+    /** Radius of the root element before zooming */
+    private final double initialRadius;
+    /** Number of levels to generate */
+    private final int recursionDepth;
+    /** Width of the stroke in pixels */
+    private final double strokeWidth;
+    /** Opacity of the deepest level, in percent */
+    private final double finalOpacity;
+    /** Whether or not opacity fades towards the deepest level */
+    private final boolean opacityDecay;
+    /** Whether or not color blends towards the deepest level */
+    private final boolean colorDecay;
+    /** Whether or not circles are filled */
+    private final boolean fillElements;
+    /** Whether or not every element gets a random color */
+    private final boolean randomColors;
+    /** Whether or not to hide the tethers */
+    private final boolean hideTethers;
+    /** Color of the root level */
+    private final Color fgColor;
+    /** Color of the background */
+    private final Color bgColor;
+    /** x-value of the origin, relative to the canvas center */
+    private final double originX;
+    /** y-value of the origin, relative to the canvas center (Cartesian) */
+    private final double originY;
+    /** Rotation of the whole fractal in radians */
+    private final double rotationOffset;
+    /** Factor every length in pixels is multiplied by */
+    private final double zoomScale;
+    /** Width in pixels below which subtrees become splats */
+    private final double lodThreshold;
+    /** Seed random colors are hashed with */
+    private final long colorSeed;
+
+    /**
+     * Copies the current settings of a subject.
+     *
+     * @param subject       the subject to copy
+     */
+    public FractalSnapshot(FractalSubject subject){
+        this.childCount     = subject.getChildCount();
+        this.childRatio     = subject.getChildRatio();
+        this.initialRadius  = subject.getInitialRadius();
+        this.recursionDepth = subject.getRecursionDepth();
+        this.strokeWidth    = subject.getStrokeWidth();
+        this.finalOpacity   = subject.getFinalOpacity();
+        this.opacityDecay   = subject.getOpacityDecay();
+        this.colorDecay     = subject.getColorDecay();
+        this.fillElements   = subject.getFillElements();
+        this.randomColors   = subject.getRandomColors();
+        this.hideTethers    = subject.getHideTethers();
+        this.fgColor        = subject.getFgColor();
+        this.bgColor        = subject.getBgColor();
+        this.originX        = subject.getOrigin().getX();
+        this.originY        = subject.getOrigin().getY();
+        this.rotationOffset = subject.getRotationOffset();
+        this.zoomScale      = subject.getZoomScale();
+        this.lodThreshold   = subject.getLodThreshold();
+        this.colorSeed      = subject.getColorSeed();
+    }
+
+    /**
+     * Private helper constructor that sets every field, for the methods that return a changed
+     * copy of a snapshot.
+     *
+     * @param childCount        number of children each element has
+     * @param childRatio        ratio of a child's radius to its parent's, in percent
+     * @param initialRadius     radius of the root element before zooming
+     * @param recursionDepth    number of levels to generate
+     * @param strokeWidth       width of the stroke in pixels
+     * @param finalOpacity      opacity of the deepest level, in percent
+     * @param opacityDecay      whether or not opacity fades towards the deepest level
+     * @param colorDecay        whether or not color blends towards the deepest level
+     * @param fillElements      whether or not circles are filled
+     * @param randomColors      whether or not every element gets a random color
+     * @param hideTethers       whether or not to hide the tethers
+     * @param fgColor           color of the root level
+     * @param bgColor           color of the background
+     * @param originX           x-value of the origin, relative to the canvas center
+     * @param originY           y-value of the origin, relative to the canvas center (Cartesian)
+     * @param rotationOffset    rotation of the whole fractal
+     * @param zoomScale         factor every length in pixels is multiplied by
+     * @param lodThreshold      width in pixels below which subtrees become splats
+     * @param colorSeed         seed random colors are hashed with
+     */
+    private FractalSnapshot(int childCount, double childRatio, double initialRadius, int recursionDepth,
+                            double strokeWidth, double finalOpacity, boolean opacityDecay, boolean colorDecay,
+                            boolean fillElements, boolean randomColors, boolean hideTethers, Color fgColor,
+                            Color bgColor, double originX, double originY, double rotationOffset,
+                            double zoomScale, double lodThreshold, long colorSeed){
+        this.childCount     = childCount;
+        this.childRatio     = childRatio;
+        this.initialRadius  = initialRadius;
+        this.recursionDepth = recursionDepth;
+        this.strokeWidth    = strokeWidth;
+        this.finalOpacity   = finalOpacity;
+        this.opacityDecay   = opacityDecay;
+        this.colorDecay     = colorDecay;
+        this.fillElements   = fillElements;
+        this.randomColors   = randomColors;
+        this.hideTethers    = hideTethers;
+        this.fgColor        = fgColor;
+        this.bgColor        = bgColor;
+        this.originX        = originX;
+        this.originY        = originY;
+        this.rotationOffset = rotationOffset;
+        this.zoomScale      = zoomScale;
+        this.lodThreshold   = lodThreshold;
+        this.colorSeed      = colorSeed;
+    }
+
+    /**
+     * Returns a copy of this snapshot with the fractal moved to a different origin.
+     *
+     * @param originX       x-value of the new origin, relative to the canvas center
+     * @param originY       y-value of the new origin, relative to the canvas center (Cartesian)
+     * @return              the moved snapshot
+     */
+    public FractalSnapshot moved(double originX, double originY){
+        return new FractalSnapshot(childCount, childRatio, initialRadius, recursionDepth, strokeWidth, finalOpacity,
+                opacityDecay, colorDecay, fillElements, randomColors, hideTethers, fgColor, bgColor, originX, originY,
+                rotationOffset, zoomScale, lodThreshold, colorSeed);
+    }
+
+    /**
+     * Returns a copy of this snapshot drawn at a larger or smaller size, so that a canvas
+     * scaled by the same factor shows the same picture at a different resolution.
+     *
+     * @param scale         factor every length in pixels is multiplied by
+     * @return              the scaled snapshot
+     */
+    public FractalSnapshot scaled(double scale){
+        return new FractalSnapshot(childCount, childRatio, initialRadius, recursionDepth, strokeWidth * scale,
+                finalOpacity, opacityDecay, colorDecay, fillElements, randomColors, hideTethers, fgColor, bgColor,
+                originX * scale, originY * scale, rotationOffset, zoomScale * scale, lodThreshold, colorSeed);
+    }
+
+    /**
+     * Returns a copy of this snapshot that is cheaper to render, for when frames can't keep
+     * up with an animation. Returns this snapshot itself if nothing would change.
+     *
+     * @param recursionDepth    number of levels to generate
+     * @param hideTethers       whether or not to hide the tethers
+     * @param lodThreshold      width in pixels below which subtrees become splats
+     * @return                  the reduced snapshot
+     */
+    public FractalSnapshot reduced(int recursionDepth, boolean hideTethers, double lodThreshold){
+        if (recursionDepth == this.recursionDepth && hideTethers == this.hideTethers
+                && lodThreshold == this.lodThreshold){
+            return this;
+        }
+
+        return new FractalSnapshot(childCount, childRatio, initialRadius, recursionDepth, strokeWidth, finalOpacity,
+                opacityDecay, colorDecay, fillElements, randomColors, hideTethers, fgColor, bgColor, originX, originY,
+                rotationOffset, zoomScale, lodThreshold, colorSeed);
+    }
+
+    /**
+     * Returns the number of children each element has.
+     *
+     * @return      Child count as an int
+     */
+    public int getChildCount() {
+        return this.childCount;
+    }
+
+    /**
+     * Returns the ratio of a child's radius to its parent's.
+     *
+     * @return      Child ratio in percent
+     */
+    public double getChildRatio() {
+        return this.childRatio;
+    }
+
+    /**
+     * Returns the radius of the root element before zooming.
+     *
+     * @return      Initial radius in pixels
+     */
+    public double getInitialRadius() {
+        return this.initialRadius;
+    }
+
+    /**
+     * Returns the radius of the root element as drawn, after zooming.
+     *
+     * @return      Zoomed initial radius in pixels
+     */
+    public double getZoomedInitialRadius() {
+        return this.initialRadius * this.zoomScale;
+    }
+
+    /**
+     * Returns the number of levels to generate.
+     *
+     * @return      Recursion depth as an int
+     */
+    public int getRecursionDepth() {
+        return this.recursionDepth;
+    }
+
+    /**
+     * Returns the width of the stroke the elements are drawn with.
+     *
+     * @return      Stroke width in pixels
+     */
+    public double getStrokeWidth() {
+        return this.strokeWidth;
+    }
+
+    /**
+     * Returns the opacity of the deepest level.
+     *
+     * @return      Final opacity in percent
+     */
+    public double getFinalOpacity() {
+        return this.finalOpacity;
+    }
+
+    /**
+     * Whether or not opacity fades towards the deepest level.
+     *
+     * @return      true if opacity fades towards the deepest level
+     */
+    public boolean getOpacityDecay() {
+        return this.opacityDecay;
+    }
+
+    /**
+     * Whether or not color blends towards the deepest level.
+     *
+     * @return      true if color blends towards the deepest level
+     */
+    public boolean getColorDecay() {
+        return this.colorDecay;
+    }
+
+    /**
+     * Whether or not circles are filled.
+     *
+     * @return      true if circles are filled rather than outlined
+     */
+    public boolean getFillElements() {
+        return this.fillElements;
+    }
+
+    /**
+     * Whether or not every element gets a random color.
+     *
+     * @return      true if every element gets a random color
+     */
+    public boolean getRandomColors() {
+        return this.randomColors;
+    }
+
+    /**
+     * Whether or not the tethers are hidden.
+     *
+     * @return      true if the tethers are hidden
+     */
+    public boolean getHideTethers() {
+        return this.hideTethers;
+    }
+
+    /**
+     * Returns the color of the root level.
+     *
+     * @return      Foreground color
+     */
+    public Color getFgColor() {
+        return this.fgColor;
+    }
+
+    /**
+     * Returns the color of the background.
+     *
+     * @return      Background color
+     */
+    public Color getBgColor() {
+        return this.bgColor;
+    }
+
+    /**
+     * Returns the seed random colors are hashed with.
+     *
+     * @return      Color seed as a long
+     */
+    public long getColorSeed() {
+        return this.colorSeed;
+    }
+
+    /**
+     * Returns the x-value of the origin, relative to the canvas center.
+     *
+     * @return      Origin x-value in pixels
+     */
+    public double getOriginX() {
+        return this.originX;
+    }
+
+    /**
+     * Returns the y-value of the origin, relative to the canvas center (Cartesian).
+     *
+     * @return      Origin y-value in pixels
+     */
+    public double getOriginY() {
+        return this.originY;
+    }
+
+    /**
+     * Returns the rotation of the whole fractal.
+     *
+     * @return      Rotation offset in radians
+     */
+    public double getRotationOffset() {
+        return this.rotationOffset;
+    }
+
+    /**
+     * Returns the factor every length in pixels is multiplied by.
+     *
+     * @return      Zoom scale as a double
+     */
+    public double getZoomScale() {
+        return this.zoomScale;
+    }
+
+    /**
+     * Returns the width in pixels below which subtrees become splats.
+     *
+     * @return      Level of detail threshold in pixels
+     */
+    public double getLodThreshold() {
+        return this.lodThreshold;
+    }
+
+    /**
+     * Whether or not another snapshot generates the same geometry as this one, apart from
+     * where it is viewed from. Geometry generated for one can then be drawn for the other
+     * with only its origin, zoom and rotation transformed. Besides the shape, the stroke
+     * width widens the margin subtrees are culled with and the level of detail threshold
+     * decides where splats start, so both count too.
+     *
+     * @param other     the snapshot to compare with, may be null
+     * @return          true if both snapshots generate the same shape
+     */
+    public boolean hasSameShape(FractalSnapshot other) {
+        return other != null
+                && this.childCount == other.childCount
+                && this.childRatio == other.childRatio
+                && this.initialRadius == other.initialRadius
+                && this.recursionDepth == other.recursionDepth
+                && this.strokeWidth == other.strokeWidth
+                && this.lodThreshold == other.lodThreshold;
+    }
+
+    /**
+     * Whether or not the lines connecting the circles should be drawn.
+     *
+     * @return      true if tethers are enabled and would be visible
+     */
+    public boolean drawTethers() {
+        // skip lines if they won't be visible
+        return childRatio < 100 && !hideTethers;
+    }
+}
@@ -0,0 +1,297 @@
+package rendering;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * rendering.FrameCache - Keeps recently rendered frames, keyed by every setting they were
+ *                   rendered from, so that a modulator sweeping back and forth over the same
+ *                   values only renders each frame once. Settings are quantized before being
+ *                   compared, so values that differ by less than can be seen share a frame.
+ *                   Frames are evicted least recently used first once the cache holds more
+ *                   than its budget of pixel data. Frames are cached from the render worker and
+ *                   the counters are read from the JavaFX Application Thread, so every method
+ *                   is synchronized.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class FrameCache {
+    /** Step that lengths in pixels and percentages are rounded to */
+    private static final double LENGTH_QUANTUM = .01;
+    /** Step that the rotation offset in radians and the zoom scale are rounded to */
+    private static final double ANGLE_QUANTUM = .0001;
+    /** Size of a premultiplied ARGB pixel in bytes */
+    private static final int BYTES_PER_PIXEL = Integer.BYTES;
+
+    /**
+     * A cached frame.
+     */
+    public static class Frame {
+        /** Pixels as premultiplied ARGB, row by row */
+        private final int[] pixels;
+        /** Number of elements drawn in the frame */
+        private final int drawCount;
+        /** Number of elements culled from the frame */
+        private final long culledCount;
+        /** Whether or not levels were left out at GeometryGenerator.MAX_ELEMENTS */
+        private final boolean truncated;
+
+        /**
+         * Constructs a cached frame.
+         *
+         * @param pixels        pixels as premultiplied ARGB, row by row, owned by the frame
+         * @param drawCount     number of elements drawn in the frame
+         * @param culledCount   number of elements culled from the frame
+         * @param truncated     whether the frame left out levels that would have exceeded
+         *                      GeometryGenerator.MAX_ELEMENTS
+         */
+        private Frame(int[] pixels, int drawCount, long culledCount, boolean truncated){
+            this.pixels         = pixels;
+            this.drawCount      = drawCount;
+            this.culledCount    = culledCount;
+            this.truncated      = truncated;
+        }
+
+        /**
+         * Returns the pixels of the frame. Must not be modified.
+         *
+         * @return      pixels as premultiplied ARGB, row by row
+         */
+        public int[] getPixels(){
+            return this.pixels;
+        }
+
+        /**
+         * Returns the number of elements drawn in the frame.
+         *
+         * @return      Number of elements drawn as an int
+         */
+        public int getDrawCount(){
+            return this.drawCount;
+        }
+
+        /**
+         * Returns the number of elements culled from the frame.
+         *
+         * @return      Number of elements culled as a long
+         */
+        public long getCulledCount(){
+            return this.culledCount;
+        }
+
+        /**
+         * Whether or not the frame left out levels that would have exceeded
+         * GeometryGenerator.MAX_ELEMENTS.
+         *
+         * @return      true if the deepest levels were cut
+         */
+        public boolean isTruncated(){
+            return this.truncated;
+        }
+    }
+
+    /** Cached frames by their settings, least recently used first */
+    private final LinkedHashMap<Key, Frame> frames;
+    /** Most bytes of pixel data the cache holds before evicting frames */
+    private final long byteBudget;
+    /** Bytes of pixel data held by the cached frames */
+    private long bytesUsed;
+    /** Number of lookups that found a frame */
+    private long hitCount;
+    /** Number of lookups that found nothing */
+    private long missCount;
+
+    /**
+     * Constructs a new, empty cache.
+     *
+     * @param byteBudget    most bytes of pixel data to hold
+     */
+    public FrameCache(long byteBudget){
+        this.byteBudget = byteBudget;
+        // access order, so iteration starts at the least recently used frame
+        this.frames     = new LinkedHashMap<>(16, .75f, true);
+    }
+
+    /**
+     * Looks up the frame rendered from a snapshot at a size.
+     *
+     * @param snapshot      settings of the frame
+     * @param width         width of the frame in pixels
+     * @param height        height of the frame in pixels
+     * @return              the cached frame, or null if it hasn't been cached
+     */
+    public synchronized Frame get(FractalSnapshot snapshot, int width, int height){
+        Frame frame = frames.get(new Key(snapshot, width, height));
+
+        if (frame != null){
+            hitCount++;
+        } else {
+            missCount++;
+        }
+
+        return frame;
+    }
+
+    /**
+     * Caches a copy of a frame, evicting the least recently used frames if it doesn't fit.
+     * Frames larger than the whole budget are not cached.
+     *
+     * @param snapshot      settings the frame was rendered from
+     * @param width         width of the frame in pixels
+     * @param height        height of the frame in pixels
+     * @param pixels        pixels of the frame as premultiplied ARGB, row by row
+     * @param drawCount     number of elements drawn in the frame
+     * @param culledCount   number of elements culled from the frame
+     * @param truncated     whether the frame left out levels that would have exceeded
+     *                      GeometryGenerator.MAX_ELEMENTS
+     */
+    public synchronized void put(FractalSnapshot snapshot, int width, int height, int[] pixels,
+                                 int drawCount, long culledCount, boolean truncated){
+        long frameBytes = (long) width * height * BYTES_PER_PIXEL;
+
+        if (frameBytes > byteBudget){
+            return;
+        }
+
+        Frame replaced = frames.put(new Key(snapshot, width, height),
+                new Frame(Arrays.copyOf(pixels, width * height), drawCount, culledCount, truncated));
+
+        bytesUsed += frameBytes - (replaced != null ? bytes(replaced) : 0);
+
+        Iterator<Frame> eldest = frames.values().iterator();
+
+        while (bytesUsed > byteBudget){
+            bytesUsed -= bytes(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes every cached frame. The counters are kept.
+     */
+    public synchronized void clear(){
+        frames.clear();
+        bytesUsed = 0;
+    }
+
+    /**
+     * Returns the number of lookups that found a frame since the cache was created.
+     *
+     * @return      Number of hits as a long
+     */
+    public synchronized long getHitCount(){
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that found nothing since the cache was created.
+     *
+     * @return      Number of misses as a long
+     */
+    public synchronized long getMissCount(){
+        return this.missCount;
+    }
+
+    /**
+     * Returns how much pixel data the cached frames hold.
+     *
+     * @return      size of the cached frames in bytes
+     */
+    public synchronized long getBytesUsed(){
+        return this.bytesUsed;
+    }
+
+    /**
+     * Returns the most pixel data the cache holds before evicting frames.
+     *
+     * @return      budget in bytes
+     */
+    public long getByteBudget(){
+        return this.byteBudget;
+    }
+
+    /**
+     * Returns the number of frames in the cache.
+     *
+     * @return      Number of cached frames as an int
+     */
+    public synchronized int getFrameCount(){
+        return frames.size();
+    }
+
+    /**
+     * Private helper method to find how many bytes a cached frame holds.
+     *
+     * @param frame     a cached frame
+     * @return          size of its pixels in bytes
+     */
+    private static long bytes(Frame frame){
+        return (long) frame.pixels.length * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * The quantized settings and size of a frame.
+     */
+    private static class Key {
+        /** Size of the frame followed by its quantized settings */
+        private final long[] values;
+        /** Hash of the values, computed once since every lookup needs it */
+        private final int hash;
+
+        /**
+         * Constructs the key of a frame.
+         *
+         * @param snapshot      settings of the frame
+         * @param width         width of the frame in pixels
+         * @param height        height of the frame in pixels
+         */
+        private Key(FractalSnapshot snapshot, int width, int height){
+            this.values = new long[] {
+                    width,
+                    height,
+                    snapshot.getChildCount(),
+                    quantize(snapshot.getChildRatio(), LENGTH_QUANTUM),
+                    quantize(snapshot.getInitialRadius(), LENGTH_QUANTUM),
+                    snapshot.getRecursionDepth(),
+                    quantize(snapshot.getStrokeWidth(), LENGTH_QUANTUM),
+                    quantize(snapshot.getFinalOpacity(), LENGTH_QUANTUM),
+                    (snapshot.getOpacityDecay() ? 1 : 0) | (snapshot.getColorDecay() ? 2 : 0)
+                            | (snapshot.getFillElements() ? 4 : 0) | (snapshot.getHideTethers() ? 8 : 0)
+                            | (snapshot.getRandomColors() ? 16 : 0),
+                    snapshot.getRandomColors() ? snapshot.getColorSeed() : 0,
+                    PackedColor.argb(snapshot.getFgColor()),
+                    PackedColor.argb(snapshot.getBgColor()),
+                    quantize(snapshot.getOriginX(), LENGTH_QUANTUM),
+                    quantize(snapshot.getOriginY(), LENGTH_QUANTUM),
+                    quantize(snapshot.getRotationOffset(), ANGLE_QUANTUM),
+                    quantize(snapshot.getZoomScale(), ANGLE_QUANTUM),
+                    quantize(snapshot.getLodThreshold(), LENGTH_QUANTUM)
+            };
+            this.hash = Arrays.hashCode(values);
+        }
+
+        /**
+         * Private helper method to round a setting to a whole number of steps.
+         *
+         * @param value         the setting
+         * @param quantum       size of a step
+         * @return              number of steps nearest to the setting
+         */
+        private static long quantize(double value, double quantum){
+            return Math.round(value / quantum);
+        }
+
+        @Override
+        public boolean equals(Object other){
+            return other instanceof Key && Arrays.equals(values, ((Key) other).values);
+        }
+
+        @Override
+        public int hashCode(){
+            return this.hash;
+        }
+    }
+}
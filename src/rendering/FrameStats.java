@@ -0,0 +1,239 @@
+package rendering;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * rendering.FrameStats - Keeps the per-stage timings of the most recent frames, so that rolling
+ *                   percentiles, the achieved frame rate and the number of dropped frames can be
+ *                   shown while the fractal is being adjusted, and exported for later comparison.
+ *                   Frames are recorded from the render worker and read from the JavaFX
+ *                   Application Thread, so every method is synchronized.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class FrameStats {
+    /** Number of recent frames that percentiles and the CSV export cover */
+    public static final int WINDOW_SIZE = 300;
+    /** Nanoseconds in a millisecond, for the CSV export */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    /** Nanoseconds in a second, the window the frame rate is counted over */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * A stage a frame goes through on its way to the screen.
+     */
+    public enum Stage {
+        /** Applying the GUI's settings to the subject on the JavaFX Application Thread */
+        UPDATE("update"),
+        /** Generating the geometry, including culling subtrees that are off the canvas */
+        GENERATE("generate"),
+        /** Drawing the geometry into the back buffer */
+        RASTERIZE("rasterize"),
+        /** Waiting for the JavaFX Application Thread, then copying the frame into the canvas image */
+        PRESENT("present"),
+        /** Whole time from the frame being requested to it being presented */
+        LATENCY("latency");
+
+        /** Name of the stage in the GUI and the CSV header */
+        private final String label;
+
+        /**
+         * Constructs a stage.
+         *
+         * @param label     name of the stage in the GUI and the CSV header
+         */
+        Stage(String label){
+            this.label = label;
+        }
+
+        /**
+         * Returns the name of the stage, as shown in the GUI and the CSV header.
+         *
+         * @return      name of the stage
+         */
+        public String getLabel(){
+            return this.label;
+        }
+    }
+
+    /** Duration of each stage of each recent frame in nanoseconds, indexed [stage][frame] */
+    private final long[][] stageNanos;
+    /** System.nanoTime() each recent frame was presented at */
+    private final long[] presentedAt;
+    /** Number of elements drawn in each recent frame */
+    private final int[] drawCount;
+    /** Number of elements culled from each recent frame */
+    private final long[] culledCount;
+    /** Scratch space for sorting a stage's durations */
+    private final long[] sorted;
+    /** Number of frames presented since the stats were created */
+    private long frameCount;
+    /** Number of frames that were requested or rendered but never presented */
+    private long droppedCount;
+    /** Number of partly refined frames shown while the rest of them was still being drawn */
+    private long partialCount;
+
+    /**
+     * Constructs new, empty stats.
+     */
+    public FrameStats(){
+        this.stageNanos     = new long[Stage.values().length][WINDOW_SIZE];
+        this.presentedAt    = new long[WINDOW_SIZE];
+        this.drawCount      = new int[WINDOW_SIZE];
+        this.culledCount    = new long[WINDOW_SIZE];
+        this.sorted         = new long[WINDOW_SIZE];
+    }
+
+    /**
+     * Records a presented frame.
+     *
+     * @param stages        duration of each stage in nanoseconds, indexed by Stage ordinal
+     * @param presentedAt   System.nanoTime() at which the frame was presented
+     * @param drawn         number of elements drawn
+     * @param culled        number of elements culled
+     */
+    public synchronized void recordFrame(long[] stages, long presentedAt, int drawn, long culled){
+        int index = (int) (frameCount % WINDOW_SIZE);
+
+        for (int stage = 0; stage < stageNanos.length; stage++){
+            stageNanos[stage][index] = stages[stage];
+        }
+
+        this.presentedAt[index] = presentedAt;
+        this.drawCount[index]   = drawn;
+        this.culledCount[index] = culled;
+        frameCount++;
+    }
+
+    /**
+     * Records a frame that was requested or rendered but never made it to the screen,
+     * because a newer frame replaced it first or it failed to render.
+     */
+    public synchronized void recordDropped(){
+        droppedCount++;
+    }
+
+    /**
+     * Records a partly refined frame that was shown while the rest of it was still being
+     * drawn. These are only counted, so the recorded timings always cover whole frames.
+     */
+    public synchronized void recordPartial(){
+        partialCount++;
+    }
+
+    /**
+     * Returns a percentile of the duration of a stage over the recent frames.
+     *
+     * @param stage         the stage
+     * @param percentile    the percentile, between 0 and 100
+     * @return              duration in milliseconds, or 0 if no frames were recorded
+     */
+    public synchronized double getPercentile(Stage stage, double percentile){
+        int count = windowCount();
+
+        if (count == 0){
+            return 0;
+        }
+
+        System.arraycopy(stageNanos[stage.ordinal()], 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+
+        // nearest-rank percentile
+        int rank = (int) Math.ceil((percentile / 100) * count);
+
+        return sorted[Math.max(0, Math.min(count - 1, rank - 1))] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the number of frames presented during the last second.
+     *
+     * @param now       the current System.nanoTime()
+     * @return          frames per second
+     */
+    public synchronized int getFramesPerSecond(long now){
+        int count   = windowCount();
+        int frames  = 0;
+
+        for (int i = 0; i < count; i++){
+            if (now - presentedAt[i] <= NANOS_PER_SECOND){
+                frames++;
+            }
+        }
+
+        return frames;
+    }
+
+    /**
+     * Returns the number of frames presented since the stats were created.
+     *
+     * @return      Number of presented frames as a long
+     */
+    public synchronized long getFrameCount(){
+        return this.frameCount;
+    }
+
+    /**
+     * Returns the number of frames dropped since the stats were created.
+     *
+     * @return      Number of dropped frames as a long
+     */
+    public synchronized long getDroppedCount(){
+        return this.droppedCount;
+    }
+
+    /**
+     * Returns the number of partly refined frames shown since the stats were created.
+     *
+     * @return      Number of partial frames as a long
+     */
+    public synchronized long getPartialCount(){
+        return this.partialCount;
+    }
+
+    /**
+     * Writes the recent frames as CSV, oldest first, with one column per stage in milliseconds.
+     * Presentation times are relative to the oldest frame.
+     *
+     * @param out           destination of the CSV
+     * @throws IOException  if the CSV can't be written
+     */
+    public synchronized void writeCsv(Writer out) throws IOException {
+        int count   = windowCount();
+        long first  = frameCount - count;
+        long origin = count > 0 ? presentedAt[(int) (first % WINDOW_SIZE)] : 0;
+
+        out.write("frame,presented_ms");
+
+        for (Stage stage : Stage.values()){
+            out.write("," + stage.getLabel() + "_ms");
+        }
+
+        out.write(",drawn,culled\n");
+
+        for (long frame = first; frame < frameCount; frame++){
+            int index = (int) (frame % WINDOW_SIZE);
+            StringBuilder row = new StringBuilder();
+
+            row.append(frame).append(',').append((presentedAt[index] - origin) / NANOS_PER_MILLI);
+
+            for (long[] stage : stageNanos){
+                row.append(',').append(stage[index] / NANOS_PER_MILLI);
+            }
+
+            row.append(',').append(drawCount[index]).append(',').append(culledCount[index]).append('\n');
+            out.write(row.toString());
+        }
+    }
+
+    /**
+     * Private helper method to count the frames currently in the window.
+     *
+     * @return      number of recorded frames, up to WINDOW_SIZE
+     */
+    private int windowCount(){
+        return (int) Math.min(frameCount, WINDOW_SIZE);
+    }
+}
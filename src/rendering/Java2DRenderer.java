@@ -0,0 +1,190 @@
+package rendering;
+
+import elements.Circle;
+import elements.Line;
+import geometry.FractalGeometry;
+import geometry.GeometryTransform;
+
+import java.awt.BasicStroke;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+
+/**
+ * rendering.Java2DRenderer - Rasterizes a generated fractal with Java2D. Unlike a JavaFX Canvas,
+ *                   a Graphics2D backed by a BufferedImage can be drawn to from any thread and
+ *                   without a display, so this is what frames are rendered with off the JavaFX
+ *                   Application Thread.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class Java2DRenderer {
+    /** Reused shape for drawing circles */
+    private final Ellipse2D.Double ellipse;
+    /** Reused shape for drawing tethers */
+    private final Line2D.Double line;
+
+    /**
+     * Constructs a new renderer.
+     */
+    public Java2DRenderer(){
+        this.ellipse    = new Ellipse2D.Double();
+        this.line       = new Line2D.Double();
+    }
+
+    /**
+     * Draws the background and every visible element of a generated fractal.
+     *
+     * @param g             destination graphics
+     * @param snapshot      settings the geometry was generated from
+     * @param geometry      the generated fractal
+     * @param width         width of the destination in pixels
+     * @param height        height of the destination in pixels
+     * @return              number of elements drawn
+     */
+    public int render(Graphics2D g, FractalSnapshot snapshot, FractalGeometry geometry, int width, int height){
+        return render(g, snapshot, geometry, GeometryTransform.IDENTITY, width, height);
+    }
+
+    /**
+     * Draws the background and every visible element of a generated fractal, moved by a
+     * transform. The stroke keeps its width however the geometry is scaled.
+     *
+     * @param g             destination graphics
+     * @param snapshot      settings to draw the geometry with
+     * @param geometry      the generated fractal
+     * @param transform     maps the geometry to where the snapshot places it
+     * @param width         width of the destination in pixels
+     * @param height        height of the destination in pixels
+     * @return              number of elements drawn
+     */
+    public int render(Graphics2D g, FractalSnapshot snapshot, FractalGeometry geometry, GeometryTransform transform,
+                      int width, int height){
+        return render(g, snapshot, geometry, transform, width, height, 0, geometry.size());
+    }
+
+    /**
+     * Draws a range of the elements of a generated fractal, moved by a transform. Elements are
+     * stored in the order they are drawn, so drawing consecutive ranges over the same image
+     * draws the same frame as drawing them all at once. The background is only drawn with the
+     * range starting at the first element.
+     *
+     * @param g             destination graphics
+     * @param snapshot      settings to draw the geometry with
+     * @param geometry      the generated fractal
+     * @param transform     maps the geometry to where the snapshot places it
+     * @param width         width of the destination in pixels
+     * @param height        height of the destination in pixels
+     * @param firstElement  index of the first element to draw
+     * @param endElement    index one past the last element to draw
+     * @return              number of elements drawn
+     */
+    public int render(Graphics2D g, FractalSnapshot snapshot, FractalGeometry geometry, GeometryTransform transform,
+                      int width, int height, int firstElement, int endElement){
+        int drawCount                   = 0;
+        int[] palette                   = LevelPalette.levelColors(snapshot);
+        java.awt.Color[] levelColors    = new java.awt.Color[palette.length];
+        double[] centerX                = geometry.getCenterX();
+        double[] centerY                = geometry.getCenterY();
+        double[] radius                 = geometry.getRadius();
+        int[] slot                      = geometry.getSlot();
+        double[] slotCos                = geometry.getSlotCos();
+        double[] slotSin                = geometry.getSlotSin();
+        long[] path                     = geometry.getPath();
+        boolean randomColors            = snapshot.getRandomColors();
+        int[] levelAlphas               = randomColors ? LevelPalette.levelAlphas(snapshot) : null;
+        long colorSeed                  = snapshot.getColorSeed();
+        boolean tethers                 = snapshot.drawTethers();
+        boolean fill                    = snapshot.getFillElements();
+        double strokeWidth              = snapshot.getStrokeWidth();
+        double halfWidth                = width / 2.0;
+        double halfHeight               = height / 2.0;
+        double scale                    = transform.getScale();
+
+        // the only Color objects made are one per level, not one per element
+        for (int level = 0; level < palette.length; level++){
+            levelColors[level] = PackedColor.toAwt(palette[level]);
+        }
+
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        if (firstElement == 0){
+            g.setColor(PackedColor.toAwt(PackedColor.argb(snapshot.getBgColor())));
+            g.fillRect(0, 0, width, height);
+        }
+
+        g.setStroke(new BasicStroke((float) strokeWidth));
+
+        for (int level = 0; level < geometry.getLevelCount(); level++){
+            int levelFrom                   = Math.max(geometry.getLevelStart(level), firstElement);
+            int levelTo                     = Math.min(geometry.getLevelEnd(level), endElement);
+
+            if (levelFrom >= levelTo){
+                continue;
+            }
+
+            java.awt.Color levelColor       = levelColors[level];
+            java.awt.Color parentColor      = level > 0 ? levelColors[level - 1] : null;
+            double parentRadius             = level > 0 ? radius[geometry.getLevelStart(level - 1)] : 0;
+            double elementRadius            = radius[geometry.getLevelStart(level)];
+            boolean splat                   = level == geometry.getSplatLevel();
+            double drawRadius               = (splat ? geometry.getSplatRadius() : elementRadius) * scale;
+
+            if (splat) {
+                levelColor = PackedColor.toAwt(LevelPalette.splatColor(palette, level, snapshot.getChildCount(),
+                        snapshot.getChildRatio(), elementRadius * scale, drawRadius, strokeWidth,
+                        fill, tethers));
+            }
+
+            for (int i = levelFrom; i < levelTo; i++){
+                double x = transform.mapX(centerX[i], centerY[i]);
+                double y = transform.mapY(centerX[i], centerY[i]);
+
+                if (level > 0 && tethers) {
+                    double cos          = slotCos[slot[i]];
+                    double sin          = slotSin[slot[i]];
+                    double generatedX   = centerX[i] - (parentRadius * cos);
+                    double generatedY   = centerY[i] + (parentRadius * sin);
+                    double startX       = transform.mapX(generatedX, generatedY);
+                    double startY       = transform.mapY(generatedX, generatedY);
+
+                    generatedX          = centerX[i] - (elementRadius * cos);
+                    generatedY          = centerY[i] + (elementRadius * sin);
+
+                    double endX         = transform.mapX(generatedX, generatedY);
+                    double endY         = transform.mapY(generatedX, generatedY);
+
+                    if (Line.isVisible(width, height, startX, startY, endX, endY,
+                            (parentRadius - elementRadius) * scale, strokeWidth)) {
+                        // tethers hash with the inverted seed, so they don't share their element's color
+                        g.setColor(randomColors ? PackedColor.toAwt(LevelPalette.randomColor(~colorSeed,
+                                path[i], levelAlphas[level - 1])) : parentColor);
+                        line.setLine(startX + halfWidth, startY + halfHeight, endX + halfWidth, endY + halfHeight);
+                        g.draw(line);
+                        drawCount++;
+                    }
+                }
+
+                if (Circle.isVisible(width, height, x, y, drawRadius, strokeWidth, fill || splat)) {
+                    g.setColor(randomColors ? PackedColor.toAwt(LevelPalette.randomColor(colorSeed,
+                            path[i], levelAlphas[level])) : levelColor);
+                    ellipse.setFrame(x - drawRadius + halfWidth, y - drawRadius + halfHeight,
+                            2 * drawRadius, 2 * drawRadius);
+
+                    // splats are always filled, standing in for everything their subtree covers
+                    if (fill || splat) {
+                        g.fill(ellipse);
+                    } else {
+                        g.draw(ellipse);
+                    }
+
+                    drawCount++;
+                }
+            }
+        }
+
+        return drawCount;
+    }
+}
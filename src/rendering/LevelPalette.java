@@ -0,0 +1,182 @@
+package rendering;
+
+import javafx.scene.paint.Color;
+
+/**
+ * rendering.LevelPalette - Resolves the color of each recursion level of a fractal. Every element
+ *                   of a level shares its color unless colors are randomized, so a palette is
+ *                   built once and looked up while drawing. Random colors are hashed from each
+ *                   element's path instead, so they hold still from frame to frame. Colors are
+ *                   packed ARGB ints, see PackedColor.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public final class LevelPalette {
+    /** Palettes are plain arrays built by the static methods */
+    private LevelPalette(){}
+
+    /**
+     * Builds the color of every level of a fractal.
+     *
+     * @param fgColor           the color (or base decay color) of the fractal elements
+     * @param recursionDepth    number of fractal levels
+     * @param colorDecay        whether or not the saturation decays as depth increases
+     * @param opacityDecay      whether or not the opacity decays as depth increases
+     * @param finalOpacity      the final opacity reached by the last level as percentage
+     * @return                  one packed color per level, index 0 being the initial element
+     */
+    public static int[] levelColors(Color fgColor, int recursionDepth, boolean colorDecay,
+                                    boolean opacityDecay, double finalOpacity){
+        int[] levelColors       = new int[Math.max(recursionDepth, 1)];
+        int fgArgb              = PackedColor.argb(fgColor);
+        double hue              = fgColor.getHue();
+        double saturation       = fgColor.getSaturation();
+        double brightness       = fgColor.getBrightness();
+        double saturationStep   = recursionDepth > 1 ? saturation / (recursionDepth - 1) : 0;
+
+        for (int level = 0; level < levelColors.length; level++){
+            // decayed saturation drops the foreground's own opacity, as Color.hsb always did
+            int elementColor = colorDecay ?
+                    PackedColor.hsb(hue, saturation - (level * saturationStep), brightness, 255) : fgArgb;
+
+            if (opacityDecay){
+                elementColor = PackedColor.withAlpha(elementColor,
+                        PackedColor.toByte(levelOpacity(level, recursionDepth, finalOpacity)));
+            }
+
+            levelColors[level] = elementColor;
+        }
+
+        return levelColors;
+    }
+
+    /**
+     * Builds the color of every level of the fractal described by a snapshot.
+     *
+     * @param snapshot      settings of the fractal
+     * @return              one packed color per level, index 0 being the initial element
+     */
+    public static int[] levelColors(FractalSnapshot snapshot){
+        return levelColors(snapshot.getFgColor(), snapshot.getRecursionDepth(), snapshot.getColorDecay(),
+                snapshot.getOpacityDecay(), snapshot.getFinalOpacity());
+    }
+
+    /**
+     * Finds the alpha of every level of a fractal, for building random colors.
+     *
+     * @param recursionDepth    number of fractal levels
+     * @param opacityDecay      whether or not the opacity decays as depth increases
+     * @param finalOpacity      the final opacity reached by the last level as percentage
+     * @return                  alpha of each level from 0 to 255, index 0 being the initial element
+     */
+    public static int[] levelAlphas(int recursionDepth, boolean opacityDecay, double finalOpacity){
+        int[] levelAlphas = new int[Math.max(recursionDepth, 1)];
+
+        for (int level = 0; level < levelAlphas.length; level++){
+            levelAlphas[level] = !opacityDecay ? 255 :
+                    PackedColor.toByte(levelOpacity(level, recursionDepth, finalOpacity));
+        }
+
+        return levelAlphas;
+    }
+
+    /**
+     * Finds the alpha of every level of the fractal described by a snapshot, for building
+     * random colors.
+     *
+     * @param snapshot      settings of the fractal
+     * @return              alpha of each level from 0 to 255, index 0 being the initial element
+     */
+    public static int[] levelAlphas(FractalSnapshot snapshot){
+        return levelAlphas(snapshot.getRecursionDepth(), snapshot.getOpacityDecay(), snapshot.getFinalOpacity());
+    }
+
+    /**
+     * Picks the random color of an element. The color only depends on the seed and where
+     * the element is in the fractal, so the same element keeps its color in every frame and
+     * picking it takes no Random and no allocation.
+     *
+     * @param seed      seed of the random colors
+     * @param path      path of the element, from FractalGeometry.childPath
+     * @param alpha     alpha of the color, from 0 to 255
+     * @return          the color as packed ARGB, not premultiplied
+     */
+    public static int randomColor(long seed, long path, int alpha){
+        // paths are already mixed, so one multiply spreads the seed into the high bits
+        long hash = (seed ^ path) * 0xD6E8FEB86659FD93L;
+
+        return (alpha << 24) | (int) (hash >>> 40);
+    }
+
+    /**
+     * Blends the colors of a subtree into the color of a single splat standing in for it.
+     * Each level contributes in proportion to how much of the splat its elements would have
+     * covered, and the splat's opacity is the fraction of the splat they would have covered.
+     *
+     * @param levelColors   packed color of each level of the fractal
+     * @param level         level of the subtree's root
+     * @param childCount    number of children each fractal element has
+     * @param childRatio    ratio of the child radius to the parent radius as a percentage
+     * @param levelRadius   radius of the subtree's root
+     * @param splatRadius   radius of the splat
+     * @param strokeWidth   width of the stroke used to draw the elements
+     * @param fill          whether or not the elements are filled
+     * @param tethers       whether or not the lines connecting the circles are drawn
+     * @return              the blended, packed color of the splat
+     */
+    public static int splatColor(int[] levelColors, int level, int childCount, double childRatio,
+                                   double levelRadius, double splatRadius, double strokeWidth,
+                                   boolean fill, boolean tethers){
+        double ratio    = childRatio * .01;
+        double count    = 1;
+        double radius   = levelRadius;
+        double red      = 0;
+        double green    = 0;
+        double blue     = 0;
+        double covered  = 0;
+
+        for (int subLevel = level; subLevel < levelColors.length; subLevel++){
+            int levelColor      = levelColors[subLevel];
+            double outer        = radius + (strokeWidth / 2);
+            double inner        = Math.max(0, radius - (strokeWidth / 2));
+            double area         = fill ? Math.PI * outer * outer : Math.PI * ((outer * outer) - (inner * inner));
+
+            // the tether into the subtree's root is drawn on its own
+            if (tethers && subLevel > level){
+                area += ((radius / ratio) - radius) * strokeWidth;
+            }
+
+            double weight = count * area * PackedColor.alpha(levelColor);
+
+            red     += weight * PackedColor.red(levelColor);
+            green   += weight * PackedColor.green(levelColor);
+            blue    += weight * PackedColor.blue(levelColor);
+            covered += weight;
+
+            count   *= childCount;
+            radius  *= ratio;
+        }
+
+        if (covered <= 0){
+            return PackedColor.TRANSPARENT;
+        }
+
+        // weights carry alpha from 0 to 255, the coverage from 0.0 to 1.0
+        return PackedColor.argb(covered / (255 * Math.PI * splatRadius * splatRadius),
+                red / (255 * covered), green / (255 * covered), blue / (255 * covered));
+    }
+
+    /**
+     * Determines the opacity of a level when opacity decays.
+     *
+     * @param level             recursion level, 0 being the initial element
+     * @param recursionDepth    number of fractal levels
+     * @param finalOpacity      the final opacity reached by the last level as percentage
+     * @return                  opacity of the level, between 1.0 and finalOpacity
+     */
+    public static double levelOpacity(int level, int recursionDepth, double finalOpacity){
+        double finalAlpha = 1.0 - (finalOpacity / 100);
+        return 1.0 - (level * finalAlpha / (recursionDepth - 1));
+    }
+}
@@ -0,0 +1,173 @@
+package rendering;
+
+import javafx.scene.paint.Color;
+
+/**
+ * rendering.PackedColor - Colors packed into a single int as 8-bit alpha, red, green and blue,
+ *                   not premultiplied, the way Java2D and BufferedImage store them. Renderers
+ *                   work with these so that building a palette or picking a color allocates
+ *                   nothing; Color objects are only made where JavaFX or Java2D need one.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public final class PackedColor {
+    /** Fully transparent black */
+    public static final int TRANSPARENT = 0;
+
+    /** Colors are plain ints, so there is nothing to construct */
+    private PackedColor(){}
+
+    /**
+     * Packs a color from its components.
+     *
+     * @param alpha     alpha from 0 to 255
+     * @param red       red from 0 to 255
+     * @param green     green from 0 to 255
+     * @param blue      blue from 0 to 255
+     * @return          the packed color
+     */
+    public static int argb(int alpha, int red, int green, int blue){
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Packs a color from components between 0.0 and 1.0, like those of a JavaFX Color.
+     *
+     * @param alpha     alpha from 0.0 to 1.0
+     * @param red       red from 0.0 to 1.0
+     * @param green     green from 0.0 to 1.0
+     * @param blue      blue from 0.0 to 1.0
+     * @return          the packed color
+     */
+    public static int argb(double alpha, double red, double green, double blue){
+        return argb(toByte(alpha), toByte(red), toByte(green), toByte(blue));
+    }
+
+    /**
+     * Packs a JavaFX color.
+     *
+     * @param color     the color to pack
+     * @return          the packed color
+     */
+    public static int argb(Color color){
+        return argb(color.getOpacity(), color.getRed(), color.getGreen(), color.getBlue());
+    }
+
+    /**
+     * Packs a color given by its hue, saturation and brightness, without creating a Color
+     * along the way. Gives the same color as Color.hsb.
+     *
+     * @param hue           hue in degrees, wrapped around to between 0 and 360
+     * @param saturation    saturation from 0.0 to 1.0
+     * @param brightness    brightness from 0.0 to 1.0
+     * @param alpha         alpha from 0 to 255
+     * @return              the packed color
+     */
+    public static int hsb(double hue, double saturation, double brightness, int alpha){
+        if (saturation <= 0){
+            int gray = toByte(brightness);
+            return argb(alpha, gray, gray, gray);
+        }
+
+        // which sixth of the color wheel the hue is in, and how far into it
+        double sector   = (((hue % 360) + 360) % 360) / 60;
+        int index       = (int) sector;
+        double fraction = sector - index;
+        int max         = toByte(brightness);
+        int min         = toByte(brightness * (1 - saturation));
+        int falling     = toByte(brightness * (1 - (saturation * fraction)));
+        int rising      = toByte(brightness * (1 - (saturation * (1 - fraction))));
+
+        switch (index){
+            case 0:     return argb(alpha, max, rising, min);
+            case 1:     return argb(alpha, falling, max, min);
+            case 2:     return argb(alpha, min, max, rising);
+            case 3:     return argb(alpha, min, falling, max);
+            case 4:     return argb(alpha, rising, min, max);
+            default:    return argb(alpha, max, min, falling);
+        }
+    }
+
+    /**
+     * Replaces the alpha of a color.
+     *
+     * @param color     a packed color
+     * @param alpha     the new alpha from 0 to 255
+     * @return          the packed color with the new alpha
+     */
+    public static int withAlpha(int color, int alpha){
+        return (color & 0xffffff) | (alpha << 24);
+    }
+
+    /**
+     * Returns the alpha channel of a packed color.
+     *
+     * @param color     the packed ARGB color
+     * @return          alpha from 0 to 255
+     */
+    public static int alpha(int color){
+        return color >>> 24;
+    }
+
+    /**
+     * Returns the red channel of a packed color.
+     *
+     * @param color     the packed ARGB color
+     * @return          red from 0 to 255
+     */
+    public static int red(int color){
+        return (color >> 16) & 0xff;
+    }
+
+    /**
+     * Returns the green channel of a packed color.
+     *
+     * @param color     the packed ARGB color
+     * @return          green from 0 to 255
+     */
+    public static int green(int color){
+        return (color >> 8) & 0xff;
+    }
+
+    /**
+     * Returns the blue channel of a packed color.
+     *
+     * @param color     the packed ARGB color
+     * @return          blue from 0 to 255
+     */
+    public static int blue(int color){
+        return color & 0xff;
+    }
+
+    /**
+     * Unpacks a color into a JavaFX Color, for drawing to a Canvas or showing in a control.
+     *
+     * @param color     a packed color
+     * @return          the same color as a JavaFX Color
+     */
+    public static Color toColor(int color){
+        return Color.rgb(red(color), green(color), blue(color), alpha(color) / 255.0);
+    }
+
+    /**
+     * Unpacks a color into a Java2D Color, for drawing with a Graphics2D.
+     *
+     * @param color     a packed color
+     * @return          the same color as a java.awt.Color
+     */
+    public static java.awt.Color toAwt(int color){
+        return new java.awt.Color(color, true);
+    }
+
+    /**
+     * Converts a component from between 0.0 and 1.0 to between 0 and 255, rounding like
+     * Java2D does.
+     *
+     * @param component     the component from 0.0 to 1.0
+     * @return              the component from 0 to 255
+     */
+    public static int toByte(double component){
+        return (int) ((Math.min(1.0, Math.max(0.0, component)) * 255) + .5);
+    }
+}
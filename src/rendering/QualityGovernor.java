@@ -0,0 +1,292 @@
+package rendering;
+
+/**
+ * rendering.QualityGovernor - Keeps frames within a time budget while the fractal is animating, by
+ *                   trading away detail for as long as rendering can't keep up. The render time
+ *                   of every frame is measured against a target, and while frames keep taking
+ *                   longer the governor steps down to cheaper quality levels: a coarser level of
+ *                   detail threshold first, then no tethers, then fewer levels. Once frames come
+ *                   in well under the target again it steps back up, one level at a time.
+ *                   Frames are measured on the render worker and governed on the JavaFX
+ *                   Application Thread, so every method is synchronized.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class QualityGovernor {
+    /** Default time a frame is given to render, one frame at Modulator.FPS_CAP */
+    public static final long DEFAULT_TARGET_NANOS = 1_000_000_000L / 60;
+    /** Weight of the newest frame in the running average of frame times */
+    private static final double COST_SMOOTHING = .5;
+    /** Frames measured at a quality level before it is judged, so a single slow one doesn't count */
+    private static final int SETTLE_FRAMES = 2;
+    /** How many times over the target a single frame is judged on its own, without waiting to settle */
+    private static final double OVERRUN_FACTOR = 4;
+    /** Fraction of the target frames must stay under before quality is stepped back up */
+    private static final double RESTORE_HEADROOM = .5;
+    /** Frames in a row that must stay under the headroom before quality is stepped back up */
+    private static final int RESTORE_FRAMES = 30;
+    /** Most the wait for stepping back up is stretched after stepping up proved too slow */
+    private static final int MAX_RESTORE_FRAMES = 8 * RESTORE_FRAMES;
+
+    /**
+     * How much detail a frame is rendered with. Every level is cheaper than the one before it
+     * and keeps all of its reductions.
+     */
+    public enum Quality {
+        /** The settings exactly as they are */
+        FULL(0, false, 0),
+        /** Subtrees narrower than 4 pixels become splats */
+        FINE_SPLATS(4, false, 0),
+        /** Tethers are hidden as well */
+        NO_TETHERS(4, true, 0),
+        /** Subtrees narrower than 8 pixels become splats */
+        SPLATS(8, true, 0),
+        /** Subtrees narrower than 16 pixels become splats */
+        COARSE_SPLATS(16, true, 0),
+        /** One level fewer is generated */
+        SHALLOW_1(16, true, 1),
+        /** Two levels fewer are generated */
+        SHALLOW_2(16, true, 2),
+        /** Three levels fewer are generated */
+        SHALLOW_3(16, true, 3),
+        /** Four levels fewer are generated */
+        SHALLOW_4(16, true, 4),
+        /** Five levels fewer are generated */
+        SHALLOW_5(16, true, 5),
+        /** Six levels fewer are generated */
+        SHALLOW_6(16, true, 6);
+
+        /** Fewest levels a reduced fractal is generated with */
+        private static final int MIN_DEPTH = 2;
+
+        /** Level of detail threshold in pixels that frames are rendered with at least */
+        private final double lodThreshold;
+        /** Whether or not frames are rendered without tethers */
+        private final boolean hideTethers;
+        /** Number of levels taken off the recursion depth */
+        private final int depthReduction;
+
+        /**
+         * Constructs a level of quality.
+         *
+         * @param lodThreshold      level of detail threshold in pixels, at least
+         * @param hideTethers       whether or not tethers are hidden
+         * @param depthReduction    number of levels taken off the recursion depth
+         */
+        Quality(double lodThreshold, boolean hideTethers, int depthReduction){
+            this.lodThreshold   = lodThreshold;
+            this.hideTethers    = hideTethers;
+            this.depthReduction = depthReduction;
+        }
+
+        /**
+         * Reduces a snapshot to this level of quality. Settings that are already cheaper than
+         * what this level asks for are left alone.
+         *
+         * @param snapshot      the snapshot at full quality
+         * @return              the reduced snapshot, or the same one at full quality
+         */
+        public FractalSnapshot apply(FractalSnapshot snapshot){
+            int depth = snapshot.getRecursionDepth();
+
+            return snapshot.reduced(
+                    Math.max(Math.min(depth, MIN_DEPTH), depth - depthReduction),
+                    snapshot.getHideTethers() || hideTethers,
+                    Math.max(snapshot.getLodThreshold(), lodThreshold));
+        }
+
+        /**
+         * Returns the reductions this level makes, for showing in the GUI.
+         *
+         * @return      a short description, such as "splats &lt; 8 px, no tethers"
+         */
+        public String describe(){
+            if (this == FULL){
+                return "full quality";
+            }
+
+            String description = String.format("splats < %d px", (int) lodThreshold);
+
+            if (hideTethers){
+                description = description.concat(", no tethers");
+            }
+
+            if (depthReduction > 0){
+                description = description.concat(String.format(", depth -%d", depthReduction));
+            }
+
+            return description;
+        }
+
+        /**
+         * Returns a cheaper level, or the cheapest one if there aren't that many levels left.
+         *
+         * @param steps     number of levels to step down
+         * @return          the cheaper level
+         */
+        private Quality lower(int steps){
+            return values()[Math.min(ordinal() + steps, values().length - 1)];
+        }
+
+        /**
+         * Returns the next more detailed level, or this one if it is already full quality.
+         *
+         * @return      the next more detailed level
+         */
+        private Quality higher(){
+            return values()[Math.max(ordinal() - 1, 0)];
+        }
+    }
+
+    /** Whether or not quality is reduced when frames are slow */
+    private boolean enabled;
+    /** Time a frame is given to render in nanoseconds */
+    private long targetNanos;
+    /** Level new frames are rendered at */
+    private Quality quality;
+    /** Running average of the render time of frames at the current level, in nanoseconds */
+    private double averageNanos;
+    /** Number of frames measured at the current level */
+    private int measuredFrames;
+    /** Number of frames in a row that came in under the restore headroom */
+    private int fastFrames;
+    /** Frames in a row that must come in under the restore headroom before stepping up */
+    private int restoreFrames;
+    /** Whether or not the current level was stepped up to and hasn't proven fast enough yet */
+    private boolean probing;
+
+    /**
+     * Constructs a new, enabled governor at full quality, targeting one frame at
+     * Modulator.FPS_CAP.
+     */
+    public QualityGovernor(){
+        this.enabled        = true;
+        this.targetNanos    = DEFAULT_TARGET_NANOS;
+        this.quality        = Quality.FULL;
+        this.restoreFrames  = RESTORE_FRAMES;
+    }
+
+    /**
+     * Records how long a frame took to render, stepping quality down if frames are taking
+     * longer than the target or back up if they have been well under it for a while. Frames
+     * rendered at a different level than the current one are ignored, since they say nothing
+     * about it.
+     *
+     * @param quality       level the frame was rendered at
+     * @param renderNanos   time spent generating and drawing the frame, in nanoseconds
+     * @param finished      false if a newer frame cancelled the frame before it was finished,
+     *                      which always counts as too slow
+     */
+    public synchronized void recordFrame(Quality quality, long renderNanos, boolean finished){
+        if (!enabled || quality != this.quality){
+            return;
+        }
+
+        averageNanos = measuredFrames == 0
+                ? renderNanos
+                : averageNanos + (COST_SMOOTHING * (renderNanos - averageNanos));
+        measuredFrames++;
+
+        // frames far over the target are too slow to wait for another one
+        if (measuredFrames < SETTLE_FRAMES && renderNanos < targetNanos * OVERRUN_FACTOR){
+            return;
+        }
+
+        if (!finished || averageNanos > targetNanos){
+            // stepping up to here didn't pay off, so wait longer before trying it again
+            if (probing){
+                restoreFrames = Math.min(restoreFrames * 2, MAX_RESTORE_FRAMES);
+            }
+
+            // one level for each time the frames took twice as long as the target
+            int steps = Math.max(1, (int) (Math.log(averageNanos / targetNanos) / Math.log(2)));
+
+            changeQuality(this.quality.lower(steps), false);
+        } else if (averageNanos < targetNanos * RESTORE_HEADROOM){
+            if (++fastFrames >= restoreFrames){
+                changeQuality(this.quality.higher(), true);
+            }
+        } else {
+            fastFrames  = 0;
+            probing     = false;
+        }
+    }
+
+    /**
+     * Goes straight back to full quality, for when the scene is idle and there is time to
+     * render a frame however long it takes.
+     */
+    public synchronized void restore(){
+        changeQuality(Quality.FULL, false);
+        restoreFrames = RESTORE_FRAMES;
+    }
+
+    /**
+     * Returns the level new frames should be rendered at.
+     *
+     * @return      full quality unless frames have been running over the target
+     */
+    public synchronized Quality getQuality(){
+        return this.quality;
+    }
+
+    /**
+     * Sets whether or not quality is governed. Frames render at full quality while it isn't.
+     *
+     * @param enabled       true to reduce quality when frames take too long
+     */
+    public synchronized void setEnabled(boolean enabled){
+        this.enabled = enabled;
+
+        if (!enabled){
+            restore();
+        }
+    }
+
+    /**
+     * Whether or not quality is reduced when frames are slow.
+     *
+     * @return      true if the governor is enabled
+     */
+    public synchronized boolean isEnabled(){
+        return this.enabled;
+    }
+
+    /**
+     * Sets the time a frame is given to render. Measuring starts over at the current level.
+     *
+     * @param targetNanos   target render time of a frame in nanoseconds
+     */
+    public synchronized void setTargetNanos(long targetNanos){
+        if (targetNanos <= 0){
+            throw new IllegalArgumentException("Target frame time must be positive: " + targetNanos);
+        }
+
+        this.targetNanos = targetNanos;
+        changeQuality(this.quality, false);
+    }
+
+    /**
+     * Returns the time a frame is given to render.
+     *
+     * @return      target render time of a frame in nanoseconds
+     */
+    public synchronized long getTargetNanos(){
+        return this.targetNanos;
+    }
+
+    /**
+     * Private helper method to switch to a quality level and start measuring it afresh.
+     *
+     * @param quality       the new level
+     * @param probing       whether the level is more detailed than the last one
+     */
+    private void changeQuality(Quality quality, boolean probing){
+        this.quality        = quality;
+        this.probing        = probing;
+        this.averageNanos   = 0;
+        this.measuredFrames = 0;
+        this.fastFrames     = 0;
+    }
+}
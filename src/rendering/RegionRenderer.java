@@ -0,0 +1,471 @@
+package rendering;
+
+import geometry.FractalGeometry;
+import geometry.GeometryGenerator;
+import geometry.GeometryTransform;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * rendering.RegionRenderer - Generates and rasterizes any rectangular region of a canvas into a
+ *                   BufferedImage. Only the part of the fractal that can reach the region is
+ *                   generated, so a large canvas can be rendered a piece at a time. The geometry
+ *                   of the last region is kept and reused for as long as it covers the region:
+ *                   color and style changes skip straight to drawing, and moving the origin,
+ *                   zooming and rotating only transform the kept geometry as it is drawn. The
+ *                   geometry is drawn by whichever RenderBackend is selected. Not thread safe -
+ *                   each thread rendering regions needs its own instance.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class RegionRenderer {
+    /** Largest factor the kept geometry is zoomed in by before it is generated again */
+    private static final double MAX_REUSE_SCALE = 2;
+    /** Fewest elements drawn at once while refining, so each draw is worth setting up */
+    private static final int MIN_REFINE_ELEMENTS = 256;
+    /** Fewest parents expanded at once while refining */
+    private static final int MIN_REFINE_PARENTS = 16;
+    /** Weight of the latest measurement in the running estimates of how long refining takes */
+    private static final double COST_SMOOTHING = .5;
+
+    /** Generates the geometry of each region */
+    private final GeometryGenerator generator;
+    /** Geometry buffer, reused from region to region */
+    private final FractalGeometry geometry;
+    /** Draws the geometry with the Java2D backend */
+    private final Java2DRenderer renderer;
+    /** Draws the geometry with the software backend */
+    private final SoftwareRenderer softwareRenderer;
+    /** Rasterizer the geometry is drawn with */
+    private RenderBackend backend;
+    /** Fraction of the region's size generated beyond each of its edges, so the view can move */
+    private double reuseMargin;
+    /** Settings the geometry buffer was last generated from, null if it holds nothing usable */
+    private FractalSnapshot generatedSnapshot;
+    /** Left edge of the area the geometry buffer was generated for, relative to the canvas center (y-down) */
+    private double generatedMinX;
+    /** Top edge of the area the geometry buffer was generated for */
+    private double generatedMinY;
+    /** Right edge of the area the geometry buffer was generated for */
+    private double generatedMaxX;
+    /** Bottom edge of the area the geometry buffer was generated for */
+    private double generatedMaxY;
+    /** Whether or not the geometry buffer was cut short by GeometryGenerator.MAX_ELEMENTS */
+    private boolean generatedTruncated;
+    /** How long the last region took to generate, culling included, in nanoseconds */
+    private long generateNanos;
+    /** How long the last region took to draw in nanoseconds */
+    private long rasterizeNanos;
+    /** Transform the region being refined draws the geometry buffer with */
+    private GeometryTransform refineTransform;
+    /** Number of elements of the geometry buffer already drawn into the region being refined */
+    private int refinedCount;
+    /** Running estimate of how long drawing an element takes in nanoseconds, 0 until measured */
+    private double drawNanosPerElement;
+    /** Running estimate of how long expanding a parent takes in nanoseconds, 0 until measured */
+    private double extendNanosPerParent;
+
+    /**
+     * Constructs a new region renderer that generates large levels in the common pool.
+     */
+    public RegionRenderer(){
+        this(new GeometryGenerator());
+    }
+
+    /**
+     * Constructs a new region renderer that generates geometry with the given generator.
+     *
+     * @param generator     generator to fill the geometry buffer with
+     */
+    public RegionRenderer(GeometryGenerator generator){
+        this.generator          = generator;
+        this.geometry           = new FractalGeometry();
+        this.renderer           = new Java2DRenderer();
+        this.softwareRenderer   = new SoftwareRenderer(generator.getPool());
+        this.backend            = RenderBackend.JAVA2D;
+    }
+
+    /**
+     * Selects the rasterizer the geometry is drawn with.
+     *
+     * @param backend       the rasterizer to draw with
+     */
+    public void setBackend(RenderBackend backend){
+        this.backend = backend;
+    }
+
+    /**
+     * Returns the rasterizer the geometry is drawn with.
+     *
+     * @return      the current backend
+     */
+    public RenderBackend getBackend(){
+        return this.backend;
+    }
+
+    /**
+     * Sets how far beyond the region geometry is generated, so that the origin can move a
+     * little without the geometry being generated again. Worth it when the same region is
+     * rendered over and over while the view changes, not when every region is different.
+     *
+     * @param reuseMargin   fraction of the region's width and height added beyond each edge, 0 for none
+     */
+    public void setReuseMargin(double reuseMargin){
+        this.reuseMargin        = reuseMargin;
+        this.generatedSnapshot  = null;
+    }
+
+    /**
+     * Renders a region of a canvas into an image the size of the region.
+     *
+     * @param snapshot      settings to render
+     * @param canvasWidth   width of the whole canvas in pixels
+     * @param canvasHeight  height of the whole canvas in pixels
+     * @param regionX       x-value of the region's top-left corner on the canvas
+     * @param regionY       y-value of the region's top-left corner on the canvas
+     * @param target        image the region is drawn into, its size being the size of the region
+     * @return              number of elements drawn
+     */
+    public int render(FractalSnapshot snapshot, int canvasWidth, int canvasHeight,
+                      int regionX, int regionY, BufferedImage target){
+        double left                 = regionX - (canvasWidth / 2.0);
+        double top                  = regionY - (canvasHeight / 2.0);
+        double right                = left + target.getWidth();
+        double bottom               = top + target.getHeight();
+        long start                  = System.nanoTime();
+        GeometryTransform transform = reuseTransform(snapshot, left, top, right, bottom);
+
+        if (transform == null){
+            double marginX = reuseMargin * target.getWidth();
+            double marginY = reuseMargin * target.getHeight();
+
+            generator.setLayout(snapshot.getChildCount(), snapshot.getRotationOffset());
+            generator.setViewport(left - marginX, top - marginY, right + marginX, bottom + marginY,
+                    snapshot.getStrokeWidth());
+            generator.setLevelOfDetail(snapshot.getLodThreshold());
+            generator.generate(geometry, snapshot.getChildRatio(), snapshot.getZoomedInitialRadius(),
+                    snapshot.getRecursionDepth(), snapshot.getOriginX(), snapshot.getOriginY());
+
+            generatedSnapshot   = snapshot;
+            generatedMinX       = left - marginX;
+            generatedMinY       = top - marginY;
+            generatedMaxX       = right + marginX;
+            generatedMaxY       = bottom + marginY;
+            generatedTruncated  = generator.isTruncated();
+            transform           = GeometryTransform.IDENTITY;
+        }
+
+        // a buffer left partly generated by refine is finished first
+        if (!generator.isComplete()){
+            generator.extend(geometry, Integer.MAX_VALUE);
+            generatedTruncated = generator.isTruncated();
+        }
+
+        long generated  = System.nanoTime();
+        int drawCount   = draw(snapshot, canvasWidth, canvasHeight, regionX, regionY, target, transform,
+                0, geometry.size());
+
+        generateNanos   = generated - start;
+        rasterizeNanos  = System.nanoTime() - generated;
+
+        return drawCount;
+    }
+
+    /**
+     * Renders part of a region of a canvas into an image the size of the region, continuing
+     * where the last call left off unless told to start over. Levels are generated one at a
+     * time and elements are drawn in the order render draws them, so once isRefined returns
+     * true the image holds exactly what render would have drawn. Each call stops once its
+     * budget is spent, though generating one large level can take longer on its own.
+     *
+     * @param snapshot      settings to render, the same for every call refining a region
+     * @param canvasWidth   width of the whole canvas in pixels
+     * @param canvasHeight  height of the whole canvas in pixels
+     * @param regionX       x-value of the region's top-left corner on the canvas
+     * @param regionY       y-value of the region's top-left corner on the canvas
+     * @param target        image the region is drawn into, the same for every call refining a region
+     * @param restart       whether to start refining the region over, rather than continue
+     * @param budgetNanos   roughly how long to spend, in nanoseconds
+     * @return              number of elements drawn by this call
+     */
+    public int refine(FractalSnapshot snapshot, int canvasWidth, int canvasHeight, int regionX, int regionY,
+                      BufferedImage target, boolean restart, long budgetNanos){
+        long start          = System.nanoTime();
+        long deadline       = start + budgetNanos;
+        long drawNanos      = 0;
+        int drawCount       = 0;
+        boolean drew        = false;
+
+        if (restart){
+            double left     = regionX - (canvasWidth / 2.0);
+            double top      = regionY - (canvasHeight / 2.0);
+            double right    = left + target.getWidth();
+            double bottom   = top + target.getHeight();
+
+            refineTransform = reuseTransform(snapshot, left, top, right, bottom);
+            refinedCount    = 0;
+
+            if (refineTransform == null){
+                double marginX = reuseMargin * target.getWidth();
+                double marginY = reuseMargin * target.getHeight();
+
+                generator.setLayout(snapshot.getChildCount(), snapshot.getRotationOffset());
+                generator.setViewport(left - marginX, top - marginY, right + marginX, bottom + marginY,
+                        snapshot.getStrokeWidth());
+                generator.setLevelOfDetail(snapshot.getLodThreshold());
+                // only the initial element, so something is drawn before the first large level
+                generator.generate(geometry, snapshot.getChildRatio(), snapshot.getZoomedInitialRadius(),
+                        snapshot.getRecursionDepth(), snapshot.getOriginX(), snapshot.getOriginY(), 1);
+
+                generatedSnapshot   = snapshot;
+                generatedMinX       = left - marginX;
+                generatedMinY       = top - marginY;
+                generatedMaxX       = right + marginX;
+                generatedMaxY       = bottom + marginY;
+                generatedTruncated  = false;
+                refineTransform     = GeometryTransform.IDENTITY;
+            }
+
+            // with nothing to generate or draw the background is still drawn
+            if (isRefined()){
+                draw(snapshot, canvasWidth, canvasHeight, regionX, regionY, target, refineTransform, 0, 0);
+            }
+        }
+
+        while (!isRefined()){
+            long now = System.nanoTime();
+
+            if (drew && now >= deadline){
+                break;
+            }
+
+            // elements of a level that may still be removed for being too large aren't drawn yet
+            int settled = generator.getSettledSize(geometry);
+
+            if (refinedCount < settled){
+                int elements    = budgeted(deadline - now, drawNanosPerElement, MIN_REFINE_ELEMENTS);
+                int endElement  = (int) Math.min(settled, (long) refinedCount + elements);
+
+                drawCount += draw(snapshot, canvasWidth, canvasHeight, regionX, regionY, target, refineTransform,
+                        refinedCount, endElement);
+
+                long drawn = System.nanoTime() - now;
+
+                drawNanos               += drawn;
+                drawNanosPerElement     = smoothed(drawNanosPerElement, (double) drawn / (endElement - refinedCount));
+                refinedCount            = endElement;
+                drew                    = true;
+                continue;
+            }
+
+            // half of what's left is spent generating, so the new elements can be drawn in the other half
+            int parents     = budgeted((deadline - now) / 2, extendNanosPerParent, MIN_REFINE_PARENTS);
+            int expanded    = generator.extend(geometry, Integer.MAX_VALUE, parents);
+
+            generatedTruncated = generator.isTruncated();
+
+            if (expanded > 0){
+                extendNanosPerParent = smoothed(extendNanosPerParent, (double) (System.nanoTime() - now) / expanded);
+            }
+        }
+
+        generateNanos   = System.nanoTime() - start - drawNanos;
+        rasterizeNanos  = drawNanos;
+
+        return drawCount;
+    }
+
+    /**
+     * Whether or not the region being refined is finished, every level having been generated
+     * and drawn.
+     *
+     * @return      true if the last refine call finished its region
+     */
+    public boolean isRefined(){
+        return generator.isComplete() && refinedCount == geometry.size();
+    }
+
+    /**
+     * Private helper method to draw a range of the geometry buffer with the selected backend.
+     *
+     * @param snapshot      settings to draw the geometry with
+     * @param canvasWidth   width of the whole canvas in pixels
+     * @param canvasHeight  height of the whole canvas in pixels
+     * @param regionX       x-value of the region's top-left corner on the canvas
+     * @param regionY       y-value of the region's top-left corner on the canvas
+     * @param target        image the region is drawn into
+     * @param transform     maps the geometry to where the snapshot places it
+     * @param firstElement  index of the first element to draw
+     * @param endElement    index one past the last element to draw
+     * @return              number of elements drawn
+     */
+    private int draw(FractalSnapshot snapshot, int canvasWidth, int canvasHeight, int regionX, int regionY,
+                     BufferedImage target, GeometryTransform transform, int firstElement, int endElement){
+        // the software rasterizer writes straight into the pixels, which it needs as one int per pixel
+        if (backend == RenderBackend.SOFTWARE && target.getType() == BufferedImage.TYPE_INT_ARGB_PRE){
+            return softwareRenderer.render(((DataBufferInt) target.getRaster().getDataBuffer()).getData(),
+                    regionX, regionY, target.getWidth(), target.getHeight(), snapshot, geometry, transform,
+                    canvasWidth, canvasHeight, firstElement, endElement);
+        }
+
+        Graphics2D g = target.createGraphics();
+
+        // draw in canvas coordinates, letting the image clip everything outside the region
+        g.translate(-regionX, -regionY);
+        g.clipRect(regionX, regionY, target.getWidth(), target.getHeight());
+
+        int drawCount = renderer.render(g, snapshot, geometry, transform, canvasWidth, canvasHeight,
+                firstElement, endElement);
+
+        g.dispose();
+
+        return drawCount;
+    }
+
+    /**
+     * Private helper method to find how many units of work fit in a budget, going by an
+     * estimate of how long each takes.
+     *
+     * @param budgetNanos       time available in nanoseconds
+     * @param nanosPerUnit      estimated time each unit takes, 0 if not yet measured
+     * @param minimum           fewest units to return, so every step makes progress
+     * @return                  number of units to do
+     */
+    private static int budgeted(long budgetNanos, double nanosPerUnit, int minimum){
+        if (nanosPerUnit <= 0){
+            return minimum;
+        }
+
+        return (int) Math.max(minimum, Math.min(Integer.MAX_VALUE, budgetNanos / nanosPerUnit));
+    }
+
+    /**
+     * Private helper method to fold a new measurement into a running estimate.
+     *
+     * @param estimate      the estimate so far, 0 if there is none
+     * @param measured      the new measurement
+     * @return              the new estimate
+     */
+    private static double smoothed(double estimate, double measured){
+        return estimate > 0 ? estimate + (COST_SMOOTHING * (measured - estimate)) : measured;
+    }
+
+    /**
+     * Private helper method to find how the geometry buffer can be drawn to render a region,
+     * if it can be reused at all. It can be if it was generated with the same shape and style,
+     * the region mapped back to where the buffer was generated lies within the area it was
+     * generated for, and zooming wouldn't change which level is drawn as splats.
+     *
+     * @param snapshot      settings to render
+     * @param left          left edge of the region, relative to the canvas center
+     * @param top           top edge of the region, relative to the canvas center (y-down)
+     * @param right         right edge of the region, relative to the canvas center
+     * @param bottom        bottom edge of the region, relative to the canvas center (y-down)
+     * @return              transform from the buffer to the region, or null if it must be generated again
+     */
+    private GeometryTransform reuseTransform(FractalSnapshot snapshot, double left, double top,
+                                             double right, double bottom){
+        if (!snapshot.hasSameShape(generatedSnapshot)){
+            return null;
+        }
+
+        double scale        = snapshot.getZoomScale() / generatedSnapshot.getZoomScale();
+        double rotation     = snapshot.getRotationOffset() - generatedSnapshot.getRotationOffset();
+        boolean moved       = snapshot.getOriginX() != generatedSnapshot.getOriginX()
+                || snapshot.getOriginY() != generatedSnapshot.getOriginY();
+
+        if (scale == 1 && rotation == 0 && !moved){
+            // only the colors or style changed, unless the region did
+            return isCovered(GeometryTransform.IDENTITY, left, top, right, bottom) ?
+                    GeometryTransform.IDENTITY : null;
+        }
+
+        if (generatedTruncated || scale > MAX_REUSE_SCALE){
+            return null;
+        }
+
+        if (scale != 1 && generator.findSplatLevel(snapshot.getChildRatio(), snapshot.getZoomedInitialRadius(),
+                snapshot.getRecursionDepth()) != geometry.getSplatLevel()){
+            return null;
+        }
+
+        // the buffer is y-down, the origin is Cartesian
+        GeometryTransform transform = new GeometryTransform(
+                generatedSnapshot.getOriginX(), generatedSnapshot.getOriginY() * -1,
+                snapshot.getOriginX(), snapshot.getOriginY() * -1, scale, rotation);
+
+        return isCovered(transform, left, top, right, bottom) ? transform : null;
+    }
+
+    /**
+     * Private helper method to check whether everything that can reach a region was generated
+     * into the geometry buffer. Subtrees are culled against the generated area grown by a
+     * margin for the stroke, so the region grown by the same margin has to map back inside
+     * the grown area.
+     *
+     * @param transform     transform from the buffer to the region
+     * @param left          left edge of the region, relative to the canvas center
+     * @param top           top edge of the region, relative to the canvas center (y-down)
+     * @param right         right edge of the region, relative to the canvas center
+     * @param bottom        bottom edge of the region, relative to the canvas center (y-down)
+     * @return              true if the buffer holds every element that can be seen in the region
+     */
+    private boolean isCovered(GeometryTransform transform, double left, double top, double right, double bottom){
+        double margin   = generator.getViewMargin();
+        double[] xs     = {left - margin, right + margin, right + margin, left - margin};
+        double[] ys     = {top - margin, top - margin, bottom + margin, bottom + margin};
+
+        for (int corner = 0; corner < xs.length; corner++){
+            double x = transform.inverseX(xs[corner], ys[corner]);
+            double y = transform.inverseY(xs[corner], ys[corner]);
+
+            // the buffer holds every subtree reaching the generated area grown by the margin
+            if (x < generatedMinX - margin || x > generatedMaxX + margin
+                    || y < generatedMinY - margin || y > generatedMaxY + margin){
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of elements culled from the last rendered region.
+     *
+     * @return      Number of elements culled as a long
+     */
+    public long getCulledCount(){
+        return geometry.getCulledCount();
+    }
+
+    /**
+     * Whether or not the last rendered region left out the deepest levels of the fractal,
+     * because they would have exceeded GeometryGenerator.MAX_ELEMENTS.
+     *
+     * @return      true if levels were left out of the last rendered region
+     */
+    public boolean isTruncated(){
+        return this.generatedTruncated;
+    }
+
+    /**
+     * Returns how long the last region took to generate, culling included.
+     *
+     * @return      generation time in nanoseconds
+     */
+    public long getGenerateNanos(){
+        return this.generateNanos;
+    }
+
+    /**
+     * Returns how long the last region took to draw.
+     *
+     * @return      draw time in nanoseconds
+     */
+    public long getRasterizeNanos(){
+        return this.rasterizeNanos;
+    }
+}
@@ -0,0 +1,46 @@
+package rendering;
+
+/**
+ * rendering.RenderBackend - The rasterizers a RegionRenderer can draw a frame with. They draw the
+ *                   same elements in the same colors, so they can be swapped at any time to
+ *                   compare how fast each one is.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public enum RenderBackend {
+    /** Java2D drawing into a Graphics2D, antialiased by its own rasterizer */
+    JAVA2D("Java2D"),
+    /** SoftwareRenderer writing straight into the frame's pixels, split into bands of rows */
+    SOFTWARE("Software");
+
+    /** Name of the backend in the GUI */
+    private final String label;
+
+    /**
+     * Constructs a backend.
+     *
+     * @param label     name of the backend in the GUI
+     */
+    RenderBackend(String label){
+        this.label = label;
+    }
+
+    /**
+     * Returns the backend after this one, wrapping around, for cycling through them.
+     *
+     * @return      the next backend
+     */
+    public RenderBackend next(){
+        return values()[(ordinal() + 1) % values().length];
+    }
+
+    /**
+     * Returns the name of the backend, as shown in the GUI.
+     *
+     * @return      name of the backend
+     */
+    public String getLabel(){
+        return this.label;
+    }
+}
@@ -0,0 +1,662 @@
+package rendering;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DataFormatException;
+
+/**
+ * rendering.RenderPipeline - Renders frames on a background worker so that heavy settings don't
+ *                   stall the JavaFX Application Thread. Frames are rasterized into a back buffer
+ *                   and swapped into the front buffer once complete; the JavaFX Application
+ *                   Thread only copies the latest front buffer into a WritableImage. Requests
+ *                   that arrive while a frame is rendering are coalesced, so only the newest one
+ *                   is ever rendered next. In progressive mode a frame's coarse levels are
+ *                   presented as soon as they are drawn and deeper levels follow in later
+ *                   frames, until a newer request cancels the rest. While requests keep coming,
+ *                   a QualityGovernor lowers the detail of frames that can't keep up, and once
+ *                   they stop the last frame is rendered again at full quality.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class RenderPipeline {
+    /** Fraction of the frame generated beyond each edge, so small pans reuse the last geometry */
+    private static final double REUSE_MARGIN = .25;
+    /** Most bytes of recently rendered frames kept around for repeating animations */
+    private static final long FRAME_CACHE_BYTES = Math.min(256L << 20, Runtime.getRuntime().maxMemory() / 4);
+    /** Longest a progressive frame is refined for before what it has so far is presented */
+    private static final long REFINE_BUDGET_NANOS = 1_000_000_000L / 60;
+    /** How long without a new request before the scene counts as idle and is shown at full quality */
+    private static final long IDLE_MILLIS = 250;
+
+    /** Single worker thread that all frames are rendered on */
+    private final ScheduledExecutorService worker;
+    /** The newest frame request that hasn't been picked up by the worker */
+    private final AtomicReference<FrameRequest> pendingRequest;
+    /** Whether or not the worker has been handed a drain of the pending requests */
+    private final AtomicBoolean workerScheduled;
+    /** Called on the worker thread whenever a new frame is ready to be presented */
+    private final Runnable onFrameReady;
+    /** Called on the worker thread whenever a frame fails to render */
+    private final Runnable onFrameFailed;
+    /** Timings of the recently presented frames */
+    private final FrameStats stats;
+    /** Recently rendered frames, so animations that repeat only render each frame once */
+    private final FrameCache frameCache;
+    /** Lowers the quality of requested frames while they take longer than the target */
+    private final QualityGovernor governor;
+    /** The newest request of any kind, for telling whether the scene has gone idle since */
+    private volatile FrameRequest latestRequest;
+    /** Rasterizer the worker draws frames with, switched to before the next frame it renders */
+    private volatile RenderBackend backend;
+    /** Whether or not frames are presented as they are refined, rather than once finished */
+    private volatile boolean progressive;
+    /** Why the last frame failed to render, or null if a frame has been presented since */
+    private volatile String failure;
+
+    // worker-only state
+    /** Renders each frame into the back buffer */
+    private final RegionRenderer renderer;
+    /** Image the worker renders the next frame into */
+    private BufferedImage backBuffer;
+
+    // state shared between the worker and the JavaFX Application Thread, guarded by swapLock
+    /** Guards the front buffer and everything about its frame */
+    private final Object swapLock;
+    /** Image holding the latest rendered frame, waiting to be presented */
+    private BufferedImage frontBuffer;
+    /** Whether or not the front buffer holds a frame that hasn't been presented */
+    private boolean frameReady;
+    /** Number of elements drawn in the front buffer's frame */
+    private int frontDrawCount;
+    /** Number of elements culled from the front buffer's frame */
+    private long frontCulledCount;
+    /** Whether or not the front buffer's frame was cut at GeometryGenerator.MAX_ELEMENTS */
+    private boolean frontTruncated;
+    /** Level the front buffer's frame was rendered at */
+    private QualityGovernor.Quality frontQuality;
+    /** Whether the front buffer holds a finished frame, rather than one still being refined */
+    private boolean frontFinished;
+    /** Stage timings of the front buffer's frame, indexed by FrameStats.Stage ordinal */
+    private final long[] frontStages;
+    /** System.nanoTime() the front buffer's frame was requested at */
+    private long frontRequestedAt;
+    /** System.nanoTime() the front buffer's frame finished rendering at */
+    private long frontReadyAt;
+
+    // JavaFX Application Thread-only state
+    /** Image shown on the canvas, the last presented frame copied in */
+    private WritableImage frameImage;
+    /** Number of elements drawn in the presented frame */
+    private int drawCount;
+    /** Number of elements culled from the presented frame */
+    private long culledCount;
+    /** Whether or not the presented frame was cut at GeometryGenerator.MAX_ELEMENTS */
+    private boolean truncated;
+    /** Level the presented frame was rendered at */
+    private QualityGovernor.Quality quality;
+
+    /**
+     * Constructs a new pipeline.
+     *
+     * @param onFrameReady      called on the worker thread whenever a new frame is ready; it is
+     *                          expected to schedule presentFrame on the JavaFX Application Thread
+     * @param onFrameFailed     called on the worker thread whenever a frame fails to render; the
+     *                          reason is available from getFailure
+     */
+    public RenderPipeline(Runnable onFrameReady, Runnable onFrameFailed){
+        this.onFrameReady       = onFrameReady;
+        this.onFrameFailed      = onFrameFailed;
+        this.pendingRequest     = new AtomicReference<>();
+        this.workerScheduled    = new AtomicBoolean(false);
+        this.renderer           = new RegionRenderer();
+        this.swapLock           = new Object();
+        this.stats              = new FrameStats();
+        this.frameCache         = new FrameCache(FRAME_CACHE_BYTES);
+        this.governor           = new QualityGovernor();
+        this.quality            = QualityGovernor.Quality.FULL;
+        this.frontStages        = new long[FrameStats.Stage.values().length];
+        this.backend            = renderer.getBackend();
+        this.progressive        = true;
+        this.worker             = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "glossDrop-render");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        renderer.setReuseMargin(REUSE_MARGIN);
+    }
+
+    /**
+     * Requests that a frame be rendered. Replaces any request the worker hasn't started yet.
+     *
+     * @param snapshot      settings to render
+     * @param width         width of the frame in pixels
+     * @param height        height of the frame in pixels
+     */
+    public void requestFrame(FractalSnapshot snapshot, int width, int height){
+        requestFrame(snapshot, width, height, 0);
+    }
+
+    /**
+     * Requests that a frame be rendered. Replaces any request the worker hasn't started yet.
+     *
+     * @param snapshot      settings to render
+     * @param width         width of the frame in pixels
+     * @param height        height of the frame in pixels
+     * @param updateNanos   time spent applying the settings before the request, in nanoseconds
+     */
+    public void requestFrame(FractalSnapshot snapshot, int width, int height, long updateNanos){
+        QualityGovernor.Quality governed    = governor.getQuality();
+        FrameRequest request                = new FrameRequest(governed.apply(snapshot), width, height,
+                updateNanos, governed);
+
+        request(request);
+
+        // restores full quality unless another request comes in first
+        if (!worker.isShutdown()){
+            worker.schedule(() -> settle(request, snapshot), IDLE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Requests that a frame of a baked loop be shown. It is inflated rather than rendered, but
+     * otherwise goes through the pipeline like any other frame. Replaces any request the worker
+     * hasn't started yet.
+     *
+     * @param loop          the loop
+     * @param index         index of the frame
+     */
+    public void requestLoopFrame(BakedLoop loop, int index){
+        request(new FrameRequest(loop, index));
+    }
+
+    /**
+     * Copies the latest completed frame into the frame image. Must be called on the JavaFX
+     * Application Thread.
+     *
+     * @return      the frame image if a new frame was copied into it, otherwise null
+     */
+    public WritableImage presentFrame(){
+        synchronized (swapLock){
+            if (!frameReady){
+                return null;
+            }
+
+            int width   = frontBuffer.getWidth();
+            int height  = frontBuffer.getHeight();
+
+            if (frameImage == null || frameImage.getWidth() != width || frameImage.getHeight() != height){
+                frameImage = new WritableImage(width, height);
+            }
+
+            frameImage.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(),
+                    ((DataBufferInt) frontBuffer.getRaster().getDataBuffer()).getData(), 0, width);
+
+            drawCount   = frontDrawCount;
+            culledCount = frontCulledCount;
+            truncated   = frontTruncated;
+            quality     = frontQuality;
+            frameReady  = false;
+
+            // a frame still being refined is only counted, so the timings cover whole frames
+            if (!frontFinished){
+                stats.recordPartial();
+                return frameImage;
+            }
+
+            long presentedAt = System.nanoTime();
+
+            // waiting for the JavaFX Application Thread counts towards presenting, not rendering
+            frontStages[FrameStats.Stage.PRESENT.ordinal()] = presentedAt - frontReadyAt;
+            frontStages[FrameStats.Stage.LATENCY.ordinal()] = presentedAt - frontRequestedAt;
+            stats.recordFrame(frontStages, presentedAt, drawCount, culledCount);
+        }
+
+        return frameImage;
+    }
+
+    /**
+     * Returns the number of drawn elements of the last presented frame.
+     *
+     * @return      Number of elements drawn as an integer
+     */
+    public int getDrawCount(){
+        return this.drawCount;
+    }
+
+    /**
+     * Returns the number of elements culled from the last presented frame because their
+     * subtree was entirely off the canvas.
+     *
+     * @return      Number of elements culled as a long
+     */
+    public long getCulledCount(){
+        return this.culledCount;
+    }
+
+    /**
+     * Whether or not the last presented frame left out the deepest levels of the fractal,
+     * because they would have exceeded GeometryGenerator.MAX_ELEMENTS.
+     *
+     * @return      true if levels were left out of the last presented frame
+     */
+    public boolean isTruncated(){
+        return this.truncated;
+    }
+
+    /**
+     * Returns the quality level of the last presented frame.
+     *
+     * @return      the level the frame was rendered at
+     */
+    public QualityGovernor.Quality getQuality(){
+        return this.quality;
+    }
+
+    /**
+     * Returns the timings of the recently presented frames.
+     *
+     * @return      the pipeline's frame stats
+     */
+    public FrameStats getStats(){
+        return this.stats;
+    }
+
+    /**
+     * Returns the cache of recently rendered frames.
+     *
+     * @return      the pipeline's frame cache
+     */
+    public FrameCache getFrameCache(){
+        return this.frameCache;
+    }
+
+    /**
+     * Returns the governor that lowers the quality of frames that can't keep up, for changing
+     * its target or turning it off.
+     *
+     * @return      the pipeline's quality governor
+     */
+    public QualityGovernor getGovernor(){
+        return this.governor;
+    }
+
+    /**
+     * Sets the rasterizer frames are drawn with. Cached frames are dropped when the worker
+     * switches over, so every frame afterwards is really drawn by the new backend.
+     *
+     * @param backend       the rasterizer to use
+     */
+    public void setBackend(RenderBackend backend){
+        this.backend = backend;
+    }
+
+    /**
+     * Returns the rasterizer new frames are rendered with.
+     *
+     * @return      the current backend
+     */
+    public RenderBackend getBackend(){
+        return this.backend;
+    }
+
+    /**
+     * Sets whether frames are rendered progressively. A progressive frame is presented a
+     * budget's worth of work at a time, coarse levels first, and a newer request cancels
+     * whatever of it is left, so the view keeps up with changes however deep the fractal is.
+     *
+     * @param progressive   true to present frames as they are refined
+     */
+    public void setProgressive(boolean progressive){
+        this.progressive = progressive;
+    }
+
+    /**
+     * Whether or not frames are presented as they are refined.
+     *
+     * @return      true if frames are rendered progressively
+     */
+    public boolean isProgressive(){
+        return this.progressive;
+    }
+
+    /**
+     * Returns why the last frame failed to render, for showing in the GUI.
+     *
+     * @return      a description of the failure, or null if a frame has been presented since
+     */
+    public String getFailure(){
+        return this.failure;
+    }
+
+    /**
+     * Stops the worker. Requests made afterwards are ignored.
+     */
+    public void shutdown(){
+        worker.shutdownNow();
+    }
+
+    /**
+     * Private helper method to replace the pending request and make sure the worker gets to it.
+     *
+     * @param request       the newest request
+     */
+    private void request(FrameRequest request){
+        latestRequest = request;
+
+        if (pendingRequest.getAndSet(request) != null){
+            stats.recordDropped();
+        }
+
+        scheduleWorker();
+    }
+
+    /**
+     * Private helper method to go back to full quality once no request has followed a frame
+     * request for IDLE_MILLIS, rendering the frame again at full quality if it was reduced.
+     * Runs on the worker thread.
+     *
+     * @param request       the request that may have been the last one
+     * @param snapshot      full quality settings of the request
+     */
+    private void settle(FrameRequest request, FractalSnapshot snapshot){
+        if (latestRequest != request){
+            return;
+        }
+
+        governor.restore();
+
+        if (request.quality != QualityGovernor.Quality.FULL){
+            request(new FrameRequest(snapshot, request.width, request.height, 0, null));
+        }
+    }
+
+    /**
+     * Private helper method to hand the worker a drain of the pending requests, unless it
+     * already has one.
+     */
+    private void scheduleWorker(){
+        if (!worker.isShutdown() && workerScheduled.compareAndSet(false, true)){
+            worker.execute(this::drainRequests);
+        }
+    }
+
+    /**
+     * Private helper method that renders pending requests until there are none left. A frame
+     * that fails to render is dropped and reported, and the worker carries on with the next
+     * request, which may well render. Runs on the worker thread.
+     */
+    private void drainRequests(){
+        FrameRequest request;
+
+        try {
+            while ((request = pendingRequest.getAndSet(null)) != null){
+                try {
+                    render(request);
+                } catch (RuntimeException | OutOfMemoryError e){
+                    failure = e.toString();
+                    stats.recordDropped();
+                    onFrameFailed.run();
+                }
+            }
+        } finally {
+            // anything that got past the handler still mustn't keep later requests from being drained
+            workerScheduled.set(false);
+        }
+
+        // a request may have arrived between the last poll and clearing the flag
+        if (pendingRequest.get() != null){
+            scheduleWorker();
+        }
+    }
+
+    /**
+     * Private helper method to render a frame into the back buffer and swap it to the front.
+     * Runs on the worker thread.
+     *
+     * @param request       the frame to render
+     */
+    private void render(FrameRequest request){
+        FractalSnapshot snapshot    = request.snapshot;
+        RenderBackend requested     = backend;
+
+        if (renderer.getBackend() != requested){
+            renderer.setBackend(requested);
+            frameCache.clear();
+        }
+
+        if (backBuffer == null || backBuffer.getWidth() != request.width
+                || backBuffer.getHeight() != request.height){
+            backBuffer = new BufferedImage(request.width, request.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        int[] pixels            = ((DataBufferInt) backBuffer.getRaster().getDataBuffer()).getData();
+        FrameCache.Frame cached = snapshot != null ? frameCache.get(snapshot, request.width, request.height) : null;
+        long start              = System.nanoTime();
+        long generateNanos;
+        long rasterizeNanos;
+        int drawn;
+        long culled;
+        boolean truncated;
+
+        if (request.loop != null){
+            // baked frames are only inflated, which counts as rasterizing them
+            try {
+                request.loop.readFrame(request.loopIndex, pixels);
+            } catch (DataFormatException e){
+                throw new IllegalStateException("Baked frame " + request.loopIndex + " is corrupt", e);
+            }
+
+            drawn           = 0;
+            culled          = 0;
+            truncated       = false;
+            generateNanos   = 0;
+            rasterizeNanos  = System.nanoTime() - start;
+        } else if (cached != null){
+            // a frame seen before is only copied, which counts as rasterizing it
+            System.arraycopy(cached.getPixels(), 0, pixels, 0, pixels.length);
+
+            drawn           = cached.getDrawCount();
+            culled          = cached.getCulledCount();
+            truncated       = cached.isTruncated();
+            generateNanos   = 0;
+            rasterizeNanos  = System.nanoTime() - start;
+        } else if (progressive){
+            renderProgressively(request, pixels);
+            return;
+        } else {
+            drawn           = renderer.render(snapshot, request.width, request.height, 0, 0, backBuffer);
+            culled          = renderer.getCulledCount();
+            truncated       = renderer.isTruncated();
+            generateNanos   = renderer.getGenerateNanos();
+            rasterizeNanos  = renderer.getRasterizeNanos();
+
+            frameCache.put(snapshot, request.width, request.height, pixels, drawn, culled, truncated);
+            measure(request, generateNanos + rasterizeNanos, true);
+        }
+
+        present(request, drawn, culled, truncated, generateNanos, rasterizeNanos, false);
+    }
+
+    /**
+     * Private helper method to refine a frame in the back buffer a budget at a time,
+     * presenting a copy of it after each step, until it is finished or a newer request
+     * cancels it. Only finished frames are cached. Runs on the worker thread.
+     *
+     * @param request       the frame to render
+     * @param pixels        pixels of the back buffer
+     */
+    private void renderProgressively(FrameRequest request, int[] pixels){
+        long generateNanos  = 0;
+        long rasterizeNanos = 0;
+        int drawn           = 0;
+        boolean restart     = true;
+
+        do {
+            // what has been presented stays up until the newer request's first step replaces it
+            if (!restart && pendingRequest.get() != null){
+                measure(request, generateNanos + rasterizeNanos, false);
+                stats.recordDropped();
+                return;
+            }
+
+            drawn           += renderer.refine(request.snapshot, request.width, request.height, 0, 0,
+                    backBuffer, restart, REFINE_BUDGET_NANOS);
+            generateNanos   += renderer.getGenerateNanos();
+            rasterizeNanos  += renderer.getRasterizeNanos();
+            restart         = false;
+
+            if (!renderer.isRefined()){
+                present(request, drawn, renderer.getCulledCount(), renderer.isTruncated(), generateNanos,
+                        rasterizeNanos, true);
+            }
+        } while (!renderer.isRefined());
+
+        frameCache.put(request.snapshot, request.width, request.height, pixels, drawn, renderer.getCulledCount(),
+                renderer.isTruncated());
+        measure(request, generateNanos + rasterizeNanos, true);
+        present(request, drawn, renderer.getCulledCount(), renderer.isTruncated(), generateNanos, rasterizeNanos,
+                false);
+    }
+
+    /**
+     * Private helper method to tell the governor how long a frame took to render, unless it
+     * was rendered at full quality regardless of the governor.
+     *
+     * @param request       the frame that was rendered
+     * @param renderNanos   time spent generating and drawing the frame, in nanoseconds
+     * @param finished      false if a newer request cancelled the frame
+     */
+    private void measure(FrameRequest request, long renderNanos, boolean finished){
+        if (request.quality != null){
+            governor.recordFrame(request.quality, renderNanos, finished);
+        }
+    }
+
+    /**
+     * Private helper method to hand the frame in the back buffer to the JavaFX Application
+     * Thread. Runs on the worker thread.
+     *
+     * @param request           the frame that was rendered
+     * @param drawn             number of elements drawn in the frame
+     * @param culled            number of elements culled from the frame
+     * @param truncated         whether the frame left out levels that would have exceeded
+     *                          GeometryGenerator.MAX_ELEMENTS
+     * @param generateNanos     time spent generating the frame, in nanoseconds
+     * @param rasterizeNanos    time spent drawing the frame, in nanoseconds
+     * @param unfinished        whether the worker keeps drawing into the back buffer, in which
+     *                          case it is copied to the front rather than swapped with it
+     */
+    private void present(FrameRequest request, int drawn, long culled, boolean truncated, long generateNanos,
+                         long rasterizeNanos, boolean unfinished){
+        synchronized (swapLock){
+            BufferedImage completed = backBuffer;
+
+            // the previous frame was never presented; a partly refined one is only replaced by more of itself
+            if (frameReady && frontFinished){
+                stats.recordDropped();
+            }
+
+            if (unfinished){
+                if (frontBuffer == null || frontBuffer.getWidth() != completed.getWidth()
+                        || frontBuffer.getHeight() != completed.getHeight()){
+                    frontBuffer = new BufferedImage(completed.getWidth(), completed.getHeight(),
+                            BufferedImage.TYPE_INT_ARGB_PRE);
+                }
+
+                int[] pixels = ((DataBufferInt) completed.getRaster().getDataBuffer()).getData();
+
+                System.arraycopy(pixels, 0, ((DataBufferInt) frontBuffer.getRaster().getDataBuffer()).getData(),
+                        0, pixels.length);
+            } else {
+                backBuffer  = frontBuffer;
+                frontBuffer = completed;
+            }
+
+            frontDrawCount      = drawn;
+            frontCulledCount    = culled;
+            frontTruncated      = truncated;
+            frontQuality        = request.quality != null ? request.quality : QualityGovernor.Quality.FULL;
+            frontRequestedAt    = request.requestedAt;
+            frontReadyAt        = System.nanoTime();
+            frameReady          = true;
+            frontFinished       = !unfinished;
+            failure             = null;
+
+            frontStages[FrameStats.Stage.UPDATE.ordinal()]      = request.updateNanos;
+            frontStages[FrameStats.Stage.GENERATE.ordinal()]    = generateNanos;
+            frontStages[FrameStats.Stage.RASTERIZE.ordinal()]   = rasterizeNanos;
+        }
+
+        onFrameReady.run();
+    }
+
+    /**
+     * A request for a single frame.
+     */
+    private static class FrameRequest {
+        /** Settings to render, or null for a loop frame */
+        private final FractalSnapshot snapshot;
+        /** Width of the frame in pixels */
+        private final int width;
+        /** Height of the frame in pixels */
+        private final int height;
+        /** How long applying the GUI's settings took in nanoseconds */
+        private final long updateNanos;
+        /** System.nanoTime() the frame was requested at */
+        private final long requestedAt;
+        /** Loop the frame is taken from instead of being rendered, or null */
+        private final BakedLoop loop;
+        /** Index of the frame in the loop */
+        private final int loopIndex;
+        /** Level the governor reduced the frame to, or null if it isn't governed */
+        private final QualityGovernor.Quality quality;
+
+        /**
+         * Constructs a request to render a frame.
+         *
+         * @param snapshot      settings to render
+         * @param width         width of the frame in pixels
+         * @param height        height of the frame in pixels
+         * @param updateNanos   how long applying the GUI's settings took in nanoseconds
+         * @param quality       level the governor reduced the frame to, or null
+         */
+        private FrameRequest(FractalSnapshot snapshot, int width, int height, long updateNanos,
+                             QualityGovernor.Quality quality){
+            this.snapshot       = snapshot;
+            this.width          = Math.max(width, 1);
+            this.height         = Math.max(height, 1);
+            this.updateNanos    = updateNanos;
+            this.requestedAt    = System.nanoTime();
+            this.loop           = null;
+            this.loopIndex      = 0;
+            this.quality        = quality;
+        }
+
+        /**
+         * Constructs a request to show a frame of a baked loop.
+         *
+         * @param loop          the loop to take the frame from
+         * @param loopIndex     index of the frame in the loop
+         */
+        private FrameRequest(BakedLoop loop, int loopIndex){
+            this.snapshot       = null;
+            this.width          = loop.getWidth();
+            this.height         = loop.getHeight();
+            this.updateNanos    = 0;
+            this.requestedAt    = System.nanoTime();
+            this.loop           = loop;
+            this.loopIndex      = loopIndex;
+            this.quality        = null;
+        }
+    }
+}
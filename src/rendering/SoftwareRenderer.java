@@ -0,0 +1,600 @@
+package rendering;
+
+import elements.Circle;
+import elements.Line;
+import geometry.Culling;
+import geometry.FractalGeometry;
+import geometry.GeometryTransform;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * rendering.SoftwareRenderer - Rasterizes a generated fractal straight into an array of
+ *                   premultiplied ARGB pixels, with no Graphics2D or command queue in between.
+ *                   Circles, splats and tethers are antialiased by how much of each pixel they
+ *                   cover, found a scanline at a time so large circles only visit the pixels
+ *                   near their outline. The region is split into bands of rows rasterized in
+ *                   parallel; each band draws every element in order, so elements overlap the
+ *                   same way whichever band they land in. Draws what Java2DRenderer draws, in
+ *                   the same colors. Not thread safe - each thread needs its own instance.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class SoftwareRenderer {
+    /** Fewest rows in a band, so that small regions aren't split into tasks not worth forking */
+    private static final int MIN_BAND_HEIGHT = 32;
+
+    /** Pool the bands are rasterized in */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new renderer that rasterizes bands in the given pool.
+     *
+     * @param pool      pool to rasterize bands in
+     */
+    public SoftwareRenderer(ForkJoinPool pool){
+        this.pool = pool;
+    }
+
+    /**
+     * Draws the background and every visible element of a generated fractal into a region of
+     * the canvas, moved by a transform.
+     *
+     * @param pixels        pixels of the region as premultiplied ARGB, row by row
+     * @param regionX       x-value of the region's top-left corner on the canvas
+     * @param regionY       y-value of the region's top-left corner on the canvas
+     * @param regionWidth   width of the region in pixels, which is also the length of a row
+     * @param regionHeight  height of the region in pixels
+     * @param snapshot      settings to draw the geometry with
+     * @param geometry      the generated fractal
+     * @param transform     maps the geometry to where the snapshot places it
+     * @param canvasWidth   width of the whole canvas in pixels
+     * @param canvasHeight  height of the whole canvas in pixels
+     * @return              number of elements drawn
+     */
+    public int render(int[] pixels, int regionX, int regionY, int regionWidth, int regionHeight,
+                      FractalSnapshot snapshot, FractalGeometry geometry, GeometryTransform transform,
+                      int canvasWidth, int canvasHeight){
+        return render(pixels, regionX, regionY, regionWidth, regionHeight, snapshot, geometry, transform,
+                canvasWidth, canvasHeight, 0, geometry.size());
+    }
+
+    /**
+     * Draws a range of the elements of a generated fractal into a region of the canvas, moved
+     * by a transform. Drawing consecutive ranges over the same pixels draws the same frame as
+     * drawing them all at once. The background is only drawn with the range starting at the
+     * first element.
+     *
+     * @param pixels        pixels of the region as premultiplied ARGB, row by row
+     * @param regionX       x-value of the region's top-left corner on the canvas
+     * @param regionY       y-value of the region's top-left corner on the canvas
+     * @param regionWidth   width of the region in pixels, which is also the length of a row
+     * @param regionHeight  height of the region in pixels
+     * @param snapshot      settings to draw the geometry with
+     * @param geometry      the generated fractal
+     * @param transform     maps the geometry to where the snapshot places it
+     * @param canvasWidth   width of the whole canvas in pixels
+     * @param canvasHeight  height of the whole canvas in pixels
+     * @param firstElement  index of the first element to draw
+     * @param endElement    index one past the last element to draw
+     * @return              number of elements drawn
+     */
+    public int render(int[] pixels, int regionX, int regionY, int regionWidth, int regionHeight,
+                      FractalSnapshot snapshot, FractalGeometry geometry, GeometryTransform transform,
+                      int canvasWidth, int canvasHeight, int firstElement, int endElement){
+        Frame frame     = new Frame(pixels, regionX, regionY, regionWidth, regionHeight, snapshot, geometry,
+                transform, canvasWidth, canvasHeight, firstElement, endElement);
+        int bandCount   = Math.max(1, Math.min(pool.getParallelism(), regionHeight / MIN_BAND_HEIGHT));
+
+        if (bandCount == 1){
+            return frame.drawBand(0, regionHeight, true);
+        }
+
+        int[] drawCount         = new int[1];
+        RecursiveAction[] bands = new RecursiveAction[bandCount];
+
+        for (int band = 0; band < bandCount; band++){
+            int top         = (int) ((long) regionHeight * band / bandCount);
+            int bottom      = (int) ((long) regionHeight * (band + 1) / bandCount);
+            boolean first   = band == 0;
+
+            bands[band] = new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    int drawn = frame.drawBand(top, bottom, first);
+
+                    // every band sees the same elements, so only one of them counts
+                    if (first){
+                        drawCount[0] = drawn;
+                    }
+                }
+            };
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(bands);
+            }
+        });
+
+        return drawCount[0];
+    }
+
+    /**
+     * Everything about one frame that its bands share. Only ever read once constructed,
+     * apart from each band writing its own rows of pixels.
+     */
+    private static class Frame {
+        /** Pixels of the region as premultiplied ARGB, row by row */
+        private final int[] pixels;
+        /** x-value of the region's top-left corner on the canvas */
+        private final int regionX;
+        /** y-value of the region's top-left corner on the canvas */
+        private final int regionY;
+        /** Width of the region in pixels, which is also the length of a row */
+        private final int regionWidth;
+        /** Height of the region in pixels */
+        private final int regionHeight;
+        /** Settings to draw the geometry with */
+        private final FractalSnapshot snapshot;
+        /** The generated fractal */
+        private final FractalGeometry geometry;
+        /** Maps the geometry to where the snapshot places it */
+        private final GeometryTransform transform;
+        /** Width of the whole canvas in pixels */
+        private final int canvasWidth;
+        /** Height of the whole canvas in pixels */
+        private final int canvasHeight;
+        /** Index of the first element to draw */
+        private final int firstElement;
+        /** Index one past the last element to draw */
+        private final int endElement;
+        /** Packed color of each level */
+        private final int[] palette;
+        /** Alpha of the random colors of each level, or null if colors aren't random */
+        private final int[] levelAlphas;
+        /** Half the width of the stroke */
+        private final double halfStroke;
+
+        /**
+         * Constructs the shared state of a frame, building its palette.
+         *
+         * @param pixels        pixels of the region as premultiplied ARGB, row by row
+         * @param regionX       x-value of the region's top-left corner on the canvas
+         * @param regionY       y-value of the region's top-left corner on the canvas
+         * @param regionWidth   width of the region in pixels, which is also the length of a row
+         * @param regionHeight  height of the region in pixels
+         * @param snapshot      settings to draw the geometry with
+         * @param geometry      the generated fractal
+         * @param transform     maps the geometry to where the snapshot places it
+         * @param canvasWidth   width of the whole canvas in pixels
+         * @param canvasHeight  height of the whole canvas in pixels
+         * @param firstElement  index of the first element to draw
+         * @param endElement    index one past the last element to draw
+         */
+        private Frame(int[] pixels, int regionX, int regionY, int regionWidth, int regionHeight,
+                      FractalSnapshot snapshot, FractalGeometry geometry, GeometryTransform transform,
+                      int canvasWidth, int canvasHeight, int firstElement, int endElement){
+            this.pixels         = pixels;
+            this.regionX        = regionX;
+            this.regionY        = regionY;
+            this.regionWidth    = regionWidth;
+            this.regionHeight   = regionHeight;
+            this.snapshot       = snapshot;
+            this.geometry       = geometry;
+            this.transform      = transform;
+            this.canvasWidth    = canvasWidth;
+            this.canvasHeight   = canvasHeight;
+            this.firstElement   = firstElement;
+            this.endElement     = endElement;
+            this.palette        = LevelPalette.levelColors(snapshot);
+            this.levelAlphas    = snapshot.getRandomColors() ? LevelPalette.levelAlphas(snapshot) : null;
+            this.halfStroke     = snapshot.getStrokeWidth() / 2;
+        }
+
+        /**
+         * Draws the background and every element reaching a band of rows.
+         *
+         * @param top           first row of the band, relative to the region
+         * @param bottom        row one past the band's last, relative to the region
+         * @param count         whether or not to count every visible element, not only those
+         *                      reaching the band
+         * @return              number of visible elements if counting, otherwise 0
+         */
+        private int drawBand(int top, int bottom, boolean count){
+            int drawCount           = 0;
+            double[] centerX        = geometry.getCenterX();
+            double[] centerY        = geometry.getCenterY();
+            double[] radius         = geometry.getRadius();
+            int[] slot              = geometry.getSlot();
+            double[] slotCos        = geometry.getSlotCos();
+            double[] slotSin        = geometry.getSlotSin();
+            long[] path             = geometry.getPath();
+            long colorSeed          = snapshot.getColorSeed();
+            boolean tethers         = snapshot.drawTethers();
+            boolean fill            = snapshot.getFillElements();
+            double halfWidth        = canvasWidth / 2.0;
+            double halfHeight       = canvasHeight / 2.0;
+            double scale            = transform.getScale();
+            double strokeWidth      = snapshot.getStrokeWidth();
+            // the band relative to the canvas center, which is where the elements are
+            double bandLeft         = regionX - halfWidth;
+            double bandRight        = regionX + regionWidth - halfWidth;
+            double bandTop          = regionY + top - halfHeight;
+            double bandBottom       = regionY + bottom - halfHeight;
+
+            // like fillRect, the background is blended over whatever the pixels held
+            if (firstElement == 0){
+                fillRows(top, bottom, PackedColor.argb(snapshot.getBgColor()));
+            }
+
+            for (int level = 0; level < geometry.getLevelCount(); level++){
+                int levelFrom           = Math.max(geometry.getLevelStart(level), firstElement);
+                int levelTo             = Math.min(geometry.getLevelEnd(level), endElement);
+
+                if (levelFrom >= levelTo){
+                    continue;
+                }
+
+                int levelColor          = palette[level];
+                int parentColor         = level > 0 ? palette[level - 1] : 0;
+                double parentRadius     = level > 0 ? radius[geometry.getLevelStart(level - 1)] : 0;
+                double elementRadius    = radius[geometry.getLevelStart(level)];
+                boolean splat           = level == geometry.getSplatLevel();
+                double drawRadius       = (splat ? geometry.getSplatRadius() : elementRadius) * scale;
+
+                if (splat) {
+                    levelColor = LevelPalette.splatColor(palette, level, snapshot.getChildCount(),
+                            snapshot.getChildRatio(), elementRadius * scale, drawRadius, snapshot.getStrokeWidth(),
+                            fill, tethers);
+                }
+
+                for (int i = levelFrom; i < levelTo; i++){
+                    double x = transform.mapX(centerX[i], centerY[i]);
+                    double y = transform.mapY(centerX[i], centerY[i]);
+
+                    if (level > 0 && tethers) {
+                        double cos          = slotCos[slot[i]];
+                        double sin          = slotSin[slot[i]];
+                        double generatedX   = centerX[i] - (parentRadius * cos);
+                        double generatedY   = centerY[i] + (parentRadius * sin);
+                        double startX       = transform.mapX(generatedX, generatedY);
+                        double startY       = transform.mapY(generatedX, generatedY);
+
+                        generatedX          = centerX[i] - (elementRadius * cos);
+                        generatedY          = centerY[i] + (elementRadius * sin);
+
+                        double endX         = transform.mapX(generatedX, generatedY);
+                        double endY         = transform.mapY(generatedX, generatedY);
+                        double length       = (parentRadius - elementRadius) * scale;
+                        boolean inBand      = Culling.isLineVisible(bandLeft, bandTop, bandRight, bandBottom,
+                                startX, startY, endX, endY, length, strokeWidth);
+
+                        if ((inBand || count) && Line.isVisible(canvasWidth, canvasHeight, startX, startY,
+                                endX, endY, length, strokeWidth)) {
+                            drawCount++;
+
+                            if (inBand){
+                                // tethers hash with the inverted seed, so they don't share their element's color
+                                drawLine(top, bottom, startX + halfWidth, startY + halfHeight, endX + halfWidth,
+                                        endY + halfHeight, levelAlphas != null ? LevelPalette.randomColor(~colorSeed,
+                                        path[i], levelAlphas[level - 1]) : parentColor);
+                            }
+                        }
+                    }
+
+                    // splats are always filled, standing in for everything their subtree covers
+                    boolean filled  = fill || splat;
+                    boolean inBand  = Culling.isCircleVisible(bandLeft, bandTop, bandRight, bandBottom,
+                            x, y, drawRadius, strokeWidth, filled);
+
+                    if ((inBand || count) && Circle.isVisible(canvasWidth, canvasHeight, x, y, drawRadius,
+                            strokeWidth, filled)) {
+                        drawCount++;
+
+                        if (!inBand){
+                            continue;
+                        }
+
+                        int color = levelAlphas != null ?
+                                LevelPalette.randomColor(colorSeed, path[i], levelAlphas[level]) : levelColor;
+
+                        if (filled) {
+                            fillCircle(top, bottom, x + halfWidth, y + halfHeight, drawRadius, color);
+                        } else {
+                            strokeCircle(top, bottom, x + halfWidth, y + halfHeight, drawRadius, color);
+                        }
+                    }
+                }
+            }
+
+            return count ? drawCount : 0;
+        }
+
+        /**
+         * Blends a color over every pixel of a band of rows.
+         *
+         * @param top       first row of the band, relative to the region
+         * @param bottom    row one past the band's last, relative to the region
+         * @param color     packed color to blend
+         */
+        private void fillRows(int top, int bottom, int color){
+            for (int row = top; row < bottom; row++){
+                blendSpan(row * regionWidth, (row * regionWidth) + regionWidth, color);
+            }
+        }
+
+        /**
+         * Blends a filled, antialiased circle into a band of rows.
+         *
+         * @param top       first row of the band, relative to the region
+         * @param bottom    row one past the band's last, relative to the region
+         * @param centerX   x-value of the circle's center on the canvas
+         * @param centerY   y-value of the circle's center on the canvas
+         * @param radius    radius of the circle
+         * @param color     packed color of the circle
+         */
+        private void fillCircle(int top, int bottom, double centerX, double centerY, double radius, int color){
+            double outer    = radius + .5;
+            double inner    = radius - .5;
+            int firstRow    = Math.max(top, (int) Math.floor(centerY - outer - regionY));
+            int lastRow     = Math.min(bottom - 1, (int) Math.ceil(centerY + outer - regionY));
+
+            for (int row = firstRow; row <= lastRow; row++){
+                double dy = regionY + row + .5 - centerY;
+
+                if (Math.abs(dy) >= outer){
+                    continue;
+                }
+
+                double outerSpan    = Math.sqrt((outer * outer) - (dy * dy));
+                double innerSpan    = Math.abs(dy) < inner ? Math.sqrt((inner * inner) - (dy * dy)) : -1;
+                int first           = column(centerX - outerSpan, false);
+                int last            = column(centerX + outerSpan, true);
+                // pixels whose centers are at least half a pixel inside the edge are fully covered
+                int solidFirst      = innerSpan >= 0 ? column(centerX - innerSpan, true) + 1 : last + 1;
+                int solidLast       = innerSpan >= 0 ? column(centerX + innerSpan, false) - 1 : last;
+                int rowStart        = row * regionWidth;
+
+                for (int column = first; column <= last; column++){
+                    if (column == solidFirst && solidLast >= solidFirst){
+                        blendSpan(rowStart + solidFirst, rowStart + solidLast + 1, color);
+                        column = solidLast;
+                        continue;
+                    }
+
+                    double dx = regionX + column + .5 - centerX;
+
+                    blend(rowStart + column, color, clamp(outer - Math.sqrt((dx * dx) + (dy * dy))));
+                }
+            }
+        }
+
+        /**
+         * Blends the antialiased outline of a circle, stroked with the frame's stroke width, into
+         * a band of rows. Only the pixels near the outline are visited.
+         *
+         * @param top       first row of the band, relative to the region
+         * @param bottom    row one past the band's last, relative to the region
+         * @param centerX   x-value of the circle's center on the canvas
+         * @param centerY   y-value of the circle's center on the canvas
+         * @param radius    radius of the circle
+         * @param color     packed color of the outline
+         */
+        private void strokeCircle(int top, int bottom, double centerX, double centerY, double radius, int color){
+            double outer    = radius + halfStroke + .5;
+            double inner    = radius - halfStroke - .5;
+            int firstRow    = Math.max(top, (int) Math.floor(centerY - outer - regionY));
+            int lastRow     = Math.min(bottom - 1, (int) Math.ceil(centerY + outer - regionY));
+
+            for (int row = firstRow; row <= lastRow; row++){
+                double dy = regionY + row + .5 - centerY;
+
+                if (Math.abs(dy) >= outer){
+                    continue;
+                }
+
+                double outerSpan    = Math.sqrt((outer * outer) - (dy * dy));
+                int first           = column(centerX - outerSpan, false);
+                int last            = column(centerX + outerSpan, true);
+                int rowStart        = row * regionWidth;
+                // the hole in the middle of the ring is skipped
+                int holeFirst       = last + 1;
+                int holeLast        = last;
+
+                if (inner > 0 && Math.abs(dy) < inner){
+                    double innerSpan = Math.sqrt((inner * inner) - (dy * dy));
+
+                    holeFirst   = column(centerX - innerSpan, true) + 1;
+                    holeLast    = column(centerX + innerSpan, false) - 1;
+                }
+
+                for (int column = first; column <= last; column++){
+                    if (column == holeFirst && holeLast >= holeFirst){
+                        column = holeLast;
+                        continue;
+                    }
+
+                    double dx       = regionX + column + .5 - centerX;
+                    double distance = Math.abs(Math.sqrt((dx * dx) + (dy * dy)) - radius);
+
+                    blend(rowStart + column, color, overlap(distance, -halfStroke, halfStroke));
+                }
+            }
+        }
+
+        /**
+         * Blends an antialiased line, stroked with the frame's stroke width and square caps
+         * like a BasicStroke, into a band of rows. Only the pixels near the line are visited.
+         *
+         * @param top       first row of the band, relative to the region
+         * @param bottom    row one past the band's last, relative to the region
+         * @param startX    x-value of the line's start on the canvas
+         * @param startY    y-value of the line's start on the canvas
+         * @param endX      x-value of the line's end on the canvas
+         * @param endY      y-value of the line's end on the canvas
+         * @param color     packed color of the line
+         */
+        private void drawLine(int top, int bottom, double startX, double startY, double endX, double endY,
+                              int color){
+            double length = Math.hypot(endX - startX, endY - startY);
+
+            if (length == 0){
+                return;
+            }
+
+            // unit vectors along the line and across it
+            double alongX   = (endX - startX) / length;
+            double alongY   = (endY - startY) / length;
+            double acrossX  = -alongY;
+            double acrossY  = alongX;
+            double reach    = halfStroke + .5;
+            int firstRow    = Math.max(top, (int) Math.floor(Math.min(startY, endY) - reach - regionY));
+            int lastRow     = Math.min(bottom - 1, (int) Math.ceil(Math.max(startY, endY) + reach - regionY));
+
+            for (int row = firstRow; row <= lastRow; row++){
+                double dy       = regionY + row + .5 - startY;
+                // columns where both the distance across and the distance along are in reach
+                double[] span   = {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+
+                if (!narrow(span, acrossX, acrossY * dy, -reach, reach)
+                        || !narrow(span, alongX, alongY * dy, -reach, length + reach)){
+                    continue;
+                }
+
+                int first       = column(startX + span[0], false);
+                int last        = column(startX + span[1], true);
+                int rowStart    = row * regionWidth;
+
+                for (int column = first; column <= last; column++){
+                    double dx       = regionX + column + .5 - startX;
+                    double across   = (dx * acrossX) + (dy * acrossY);
+                    double along    = (dx * alongX) + (dy * alongY);
+
+                    blend(rowStart + column, color, overlap(Math.abs(across), -halfStroke, halfStroke)
+                            * overlap(along, -halfStroke, length + halfStroke));
+                }
+            }
+        }
+
+        /**
+         * Narrows a span of x-values down to where a linear function of x stays within bounds.
+         *
+         * @param span      lowest and highest x-value, relative to the line's start; narrowed in place
+         * @param slope     how much the function grows per unit of x
+         * @param offset    value of the function where x is 0
+         * @param min       lowest value allowed
+         * @param max       highest value allowed
+         * @return          false if no x-value is left in the span
+         */
+        private static boolean narrow(double[] span, double slope, double offset, double min, double max){
+            if (slope == 0){
+                return offset >= min && offset <= max;
+            }
+
+            double from = (min - offset) / slope;
+            double to   = (max - offset) / slope;
+
+            span[0] = Math.max(span[0], Math.min(from, to));
+            span[1] = Math.min(span[1], Math.max(from, to));
+
+            return span[0] <= span[1];
+        }
+
+        /**
+         * Finds the column of the region a point on the canvas falls in, kept within the region.
+         *
+         * @param x         x-value on the canvas
+         * @param roundUp   whether to round up rather than down
+         * @return          the column
+         */
+        private int column(double x, boolean roundUp){
+            double column = (roundUp ? Math.ceil(x - regionX) : Math.floor(x - regionX));
+
+            return (int) Math.max(0, Math.min(regionWidth - 1, column));
+        }
+
+        /**
+         * Blends a color over a run of pixels at full coverage.
+         *
+         * @param from      index of the first pixel
+         * @param to        index one past the last pixel
+         * @param color     packed color to blend
+         */
+        private void blendSpan(int from, int to, int color){
+            int alpha = PackedColor.alpha(color);
+
+            // opaque colors are the same premultiplied or not, and cover whatever was there
+            if (alpha == 255){
+                for (int i = from; i < to; i++){
+                    pixels[i] = color;
+                }
+            } else {
+                for (int i = from; i < to; i++){
+                    blend(i, color, 1);
+                }
+            }
+        }
+
+        /**
+         * Blends a color over a pixel, source over, in premultiplied ARGB.
+         *
+         * @param index     index of the pixel
+         * @param color     packed color, not premultiplied
+         * @param coverage  how much of the pixel the shape covers, from 0.0 to 1.0
+         */
+        private void blend(int index, int color, double coverage){
+            int alpha = (int) ((PackedColor.alpha(color) * coverage) + .5);
+
+            if (alpha <= 0){
+                return;
+            }
+
+            int inverse     = 255 - alpha;
+            int destination = pixels[index];
+
+            pixels[index] = PackedColor.argb(
+                    alpha + divide255(PackedColor.alpha(destination) * inverse),
+                    divide255((PackedColor.red(color) * alpha) + (PackedColor.red(destination) * inverse)),
+                    divide255((PackedColor.green(color) * alpha) + (PackedColor.green(destination) * inverse)),
+                    divide255((PackedColor.blue(color) * alpha) + (PackedColor.blue(destination) * inverse)));
+        }
+
+        /**
+         * Divides a product of two values from 0 to 255 by 255, rounding to nearest.
+         *
+         * @param value     value from 0 to 65025
+         * @return          value / 255, rounded
+         */
+        private static int divide255(int value){
+            value += 128;
+            return (value + (value >> 8)) >> 8;
+        }
+
+        /**
+         * How much of a pixel centered at a distance lies within an interval, measured along
+         * one axis. A pixel is one unit wide, so the result is between 0.0 and 1.0.
+         *
+         * @param distance  where the pixel's center is along the axis
+         * @param min       start of the interval
+         * @param max       end of the interval
+         * @return          the fraction of the pixel within the interval
+         */
+        private static double overlap(double distance, double min, double max){
+            return Math.max(0, Math.min(distance + .5, max) - Math.max(distance - .5, min));
+        }
+
+        /**
+         * Private helper method to keep a coverage estimate between empty and full.
+         *
+         * @param coverage  estimated fraction of a pixel covered
+         * @return          the coverage, from 0 to 1
+         */
+        private static double clamp(double coverage){
+            return Math.max(0, Math.min(1, coverage));
+        }
+    }
+}
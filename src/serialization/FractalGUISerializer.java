@@ -17,7 +17,10 @@ public class FractalGUISerializer implements FractalObserver {
     private FractalGUIData data;
     private final FractalSubject subject;
 
-    private final String FILE_NAME   = "fractal_settings";
+    /** File the settings are saved to unless another is given */
+    private static final String DEFAULT_FILE_NAME = "fractal_settings";
+    /** File the settings are saved to and loaded from */
+    private final String FILE_NAME;
 
 
     // todo: Remove all println debug statements when we sort everything out
@@ -51,8 +54,20 @@ public class FractalGUISerializer implements FractalObserver {
     // Another idea - Do I just want to have this called when the program closes?
 
     public FractalGUISerializer(FractalSubject subject){
+        this(subject, DEFAULT_FILE_NAME);
+    }
+
+    /**
+     * Constructs a serializer that reads and writes the settings at the given path instead
+     * of the default settings file.
+     *
+     * @param subject       the subject whose settings are saved
+     * @param fileName      path of the settings file
+     */
+    public FractalGUISerializer(FractalSubject subject, String fileName){
         this.data = new FractalGUIData();
         this.subject = subject;
+        this.FILE_NAME = fileName;
 
         if (fileExists()){
             try {
@@ -72,10 +87,14 @@ public class FractalGUISerializer implements FractalObserver {
         data.strokeWidth    = subject.getStrokeWidth();
         data.finalOpacity   = subject.getFinalOpacity();
         data.opacityDecay   = subject.getOpacityDecay();
+        data.colorDecay     = subject.getColorDecay();
         data.fillElements   = subject.getFillElements();
         data.randomColors   = subject.getRandomColors();
         data.hideTethers    = subject.getHideTethers();
         data.zoomScale      = subject.getZoomScale();
+        data.rotationOffset = subject.getRotationOffset();
+        data.lodThreshold   = subject.getLodThreshold();
+        data.colorSeed      = subject.getColorSeed();
 
         Color fgColor = subject.getFgColor();
         Color bgColor = subject.getBgColor();
@@ -126,6 +145,7 @@ public class FractalGUISerializer implements FractalObserver {
         data.strokeWidth        = source.strokeWidth;
         data.finalOpacity       = source.finalOpacity;
         data.opacityDecay       = source.opacityDecay;
+        data.colorDecay         = source.colorDecay;
         data.fillElements       = source.fillElements;
         data.randomColors       = source.randomColors;
         data.hideTethers        = source.hideTethers;
@@ -133,6 +153,9 @@ public class FractalGUISerializer implements FractalObserver {
         data.bgColorComponents  = source.bgColorComponents;
         data.origin             = source.origin;
         data.zoomScale          = source.zoomScale;
+        data.rotationOffset     = source.rotationOffset;
+        data.lodThreshold       = source.lodThreshold;
+        data.colorSeed          = source.colorSeed;
 
         System.out.println("\tSource: ".concat(source.toString()));
         System.out.println("\tData: ".concat(data.toString()));
@@ -178,6 +201,15 @@ public class FractalGUISerializer implements FractalObserver {
         return data.opacityDecay;
     }
 
+    /**
+     * Whether or not the saved colors blend towards the deepest level.
+     *
+     * @return      saved color decay
+     */
+    public boolean isColorDecay(){
+        return data.colorDecay;
+    }
+
     public boolean isFillElements() {
         return data.fillElements;
     }
@@ -211,8 +243,41 @@ public class FractalGUISerializer implements FractalObserver {
         return new Point2D(data.origin[0], data.origin[1]);
     }
 
+    /**
+     * Returns the saved rotation of the whole fractal.
+     *
+     * @return      saved rotation offset in radians
+     */
+    public double getRotationOffset(){
+        return data.rotationOffset;
+    }
+
+    /**
+     * Returns the saved level of detail threshold.
+     *
+     * @return      saved level of detail threshold in pixels
+     */
+    public double getLodThreshold(){
+        return data.lodThreshold;
+    }
+
+    /**
+     * Returns the saved seed random colors are hashed with.
+     *
+     * @return      saved color seed
+     */
+    public long getColorSeed(){
+        return data.colorSeed;
+    }
+
 
     private static class FractalGUIData implements Serializable{
+        /**
+         * Kept from before colorDecay and the fields after zoomScale were saved, so older files
+         * still load, with those fields at the defaults a new FractalGenerator starts with.
+         */
+        private static final long serialVersionUID = 5053214777778270625L;
+
         public int childCount;
         public double childRatio;
         public double initialRadius;
@@ -220,6 +285,8 @@ public class FractalGUISerializer implements FractalObserver {
         public double strokeWidth;
         public double finalOpacity;
         public boolean opacityDecay;
+        /** Whether or not colors blend towards the deepest level */
+        public boolean colorDecay;
         public boolean fillElements;
         public boolean randomColors;
         public boolean hideTethers;
@@ -227,11 +294,18 @@ public class FractalGUISerializer implements FractalObserver {
         public double[] bgColorComponents;
         public double[] origin; // 0 is x, 1 is y - is this too hacky?
         public double zoomScale;
+        /** Rotation of the whole fractal in radians */
+        public double rotationOffset;
+        /** Width in pixels below which subtrees become splats */
+        public double lodThreshold;
+        /** Seed random colors are hashed with */
+        public long colorSeed;
 
         public String toString() {
             return "FractalGUIData - " + childCount + ", " + childRatio + ", " + initialRadius
                     + ", " + recursionDepth + ", " + strokeWidth + ", " + finalOpacity + ", " +
-                    opacityDecay + ", " + fillElements + ", " + randomColors + ", " + hideTethers;
+                    opacityDecay + ", " + colorDecay + ", " + fillElements + ", " + randomColors + ", " +
+                    hideTethers + ", " + rotationOffset + ", " + lodThreshold + ", " + colorSeed;
         }
     }
 }
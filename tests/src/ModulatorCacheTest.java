@@ -0,0 +1,61 @@
+import modulators.AnimationClock;
+import modulators.Modulator;
+import modulators.Orbiter;
+import modulators.VirtualClock;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import rendering.FractalSnapshot;
+import rendering.FrameCache;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ModulatorCacheTest - Checks that a modulator playing on screen renders the same frames in every
+ *                   period, so that after the first period its frames are found in the
+ *                   FrameCache rather than rendered again, however unevenly the screen pulses.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class ModulatorCacheTest {
+    private static final int WIDTH = 4;
+    private static final int HEIGHT = 4;
+    /** Shortest time between pulses, one frame at Modulator.FPS_CAP */
+    private static final long PULSE_NANOS = 1000000000L / Modulator.FPS_CAP + 1;
+    /** Most that a pulse may arrive late by */
+    private static final int JITTER_NANOS = 8000000;
+    private static final long PERIOD_NANOS = (long) (Modulator.PERIOD * 1000000000L);
+
+    /**
+     * An orbiter pulsed at uneven times for two periods only ever renders the frames of one
+     * period, and finds them in the cache the second time around.
+     */
+    @Test
+    public void orbitHitsCacheInSecondPeriod(){
+        FractalGenerator subject    = new FractalGenerator();
+        VirtualClock time           = new VirtualClock();
+        AnimationClock clock        = new AnimationClock(() -> {}, time);
+        FrameCache cache            = new FrameCache(Long.MAX_VALUE);
+        Random random               = new Random(42);
+        int[] pixels                = new int[WIDTH * HEIGHT];
+
+        subject.setData(4, 50, 100, 2, 1, 100, false, false, false, false, false,
+                Color.WHITE, Color.BLACK);
+        new Orbiter(subject, clock).start();
+
+        while (time.nanoTime() < 2 * PERIOD_NANOS){
+            time.advance(PULSE_NANOS + random.nextInt(JITTER_NANOS));
+
+            FractalSnapshot snapshot = clock.step(() -> new FractalSnapshot(subject));
+
+            if (cache.get(snapshot, WIDTH, HEIGHT) == null){
+                cache.put(snapshot, WIDTH, HEIGHT, pixels, 0, 0, false);
+            }
+        }
+
+        assertTrue(cache.getHitCount() > 0);
+        assertTrue(cache.getFrameCount() <= Modulator.FRAMES_PER_PERIOD);
+    }
+}
@@ -0,0 +1,105 @@
+package geometry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * geometry.CullingTest - Checks the cases of Culling that are easy to get wrong and that
+ *                   scattered elements rarely reach: rings that only reach the rectangle
+ *                   through the width of their stroke, segments that cross the rectangle with
+ *                   both ends outside it, and segments that have no length or no slope.
+ *
+ * @author      John O'Hara
+ * @version     10/18/2026
+ */
+public class CullingTest {
+    private static final double MIN_X = 0;
+    private static final double MIN_Y = 0;
+    private static final double MAX_X = 100;
+    private static final double MAX_Y = 100;
+
+    /**
+     * A ring whose outline stops short of the rectangle is culled, until its stroke is wide
+     * enough to reach across the gap.
+     */
+    @Test
+    public void strokeWidensRingJustOutsideRect(){
+        // 50 from the right edge, so the outline alone stops 5 short
+        assertFalse(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 150, 50, 45, 1, false));
+        assertTrue(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 150, 50, 45, 12, false));
+        assertTrue(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 150, 50, 50, 1, false));
+    }
+
+    /**
+     * A ring whose hole holds the whole rectangle is culled, until its stroke is wide enough
+     * to reach back over the farthest corner. Filled, the same circle covers the rectangle.
+     */
+    @Test
+    public void strokeWidensRingAroundRect(){
+        // the farthest corner is about 70.7 from the center
+        assertFalse(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 50, 50, 200, 2, false));
+        assertTrue(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 50, 50, 200, 260, false));
+        assertTrue(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 50, 50, 200, 2, true));
+    }
+
+    /**
+     * Rings too small to be drawn are culled even in the middle of the rectangle.
+     */
+    @Test
+    public void tinyRingIsCulled(){
+        assertFalse(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 50, 50, 0, 1, false));
+        assertFalse(Culling.isCircleVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 50, 50, 0.2, 1, true));
+    }
+
+    /**
+     * Segments with both ends outside the rectangle are kept when they cross it, through
+     * opposite sides or past a corner.
+     */
+    @Test
+    public void segmentWithBothEndsOutsideCrossesRect(){
+        assertTrue(Culling.segmentIntersectsRect(-20, 50, 120, 50, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertTrue(Culling.segmentIntersectsRect(50, -20, 50, 120, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertTrue(Culling.segmentIntersectsRect(-10, 50, 50, -10, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertTrue(Culling.segmentIntersectsRect(120, -20, -20, 120, MIN_X, MIN_Y, MAX_X, MAX_Y));
+    }
+
+    /**
+     * Segments that pass the bounding box test but miss the rectangle past a corner are
+     * culled, until their stroke is wide enough to reach the corner.
+     */
+    @Test
+    public void segmentMissingCornerIsCulled(){
+        // the line x + y = -20 passes about 14.1 from the corner at the origin
+        assertFalse(Culling.segmentIntersectsRect(-30, 10, 10, -30, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertFalse(Culling.isLineVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, -30, 10, 10, -30, 56.6, 2));
+        assertTrue(Culling.isLineVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, -30, 10, 10, -30, 56.6, 30));
+    }
+
+    /**
+     * Segments that are a single point are kept only when the point is in the rectangle, and
+     * are never drawn since they have no length.
+     */
+    @Test
+    public void zeroLengthSegment(){
+        assertTrue(Culling.segmentIntersectsRect(50, 50, 50, 50, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertTrue(Culling.segmentIntersectsRect(100, 50, 100, 50, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertFalse(Culling.segmentIntersectsRect(150, 50, 150, 50, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertFalse(Culling.segmentIntersectsRect(-1, -1, -1, -1, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertFalse(Culling.isLineVisible(MIN_X, MIN_Y, MAX_X, MAX_Y, 50, 50, 50, 50, 0, 1));
+    }
+
+    /**
+     * Segments parallel to an axis, which skip clipping on that axis, are kept when they lie
+     * between that axis' edges, including exactly on an edge.
+     */
+    @Test
+    public void axisParallelSegment(){
+        assertTrue(Culling.segmentIntersectsRect(50, 150, 50, -50, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertTrue(Culling.segmentIntersectsRect(-50, 0, 150, 0, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertTrue(Culling.segmentIntersectsRect(100, -50, 100, 150, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertFalse(Culling.segmentIntersectsRect(150, -50, 150, 150, MIN_X, MIN_Y, MAX_X, MAX_Y));
+        assertFalse(Culling.segmentIntersectsRect(-50, -1, 150, -1, MIN_X, MIN_Y, MAX_X, MAX_Y));
+    }
+}